@@ -0,0 +1,28 @@
+package br.upf.ads175.critiquehub.dto;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Entrada da timeline: uma avaliação pública ou um comentário publicado.
+ *
+ * Carrega só identificadores; o conteúdo é carregado pela tela, em lote, para a página exibida.
+ *
+ * @param tipo tipo da atividade
+ * @param id ID da avaliação ou do comentário
+ * @param autorId autor da atividade
+ * @param avaliacaoId avaliação relacionada (a própria, se {@code tipo} for AVALIACAO)
+ * @param data momento da publicação
+ */
+public record AtividadeDTO(Tipo tipo, Long id, Long autorId, Long avaliacaoId, LocalDateTime data) {
+
+    public enum Tipo { AVALIACAO, COMENTARIO }
+
+    /**
+     * Ordem da timeline: mais recentes primeiro, com desempate estável por tipo e ID.
+     */
+    public static final Comparator<AtividadeDTO> MAIS_RECENTES_PRIMEIRO =
+            Comparator.comparing(AtividadeDTO::data).reversed()
+                    .thenComparing(AtividadeDTO::tipo)
+                    .thenComparing(AtividadeDTO::id, Comparator.reverseOrder());
+}
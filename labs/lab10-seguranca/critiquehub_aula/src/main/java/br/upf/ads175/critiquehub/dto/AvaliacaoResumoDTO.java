@@ -0,0 +1,23 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.StatusConsumo;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de avaliação para listagens (sem resenha nem comentários).
+ *
+ * @param id ID da avaliação
+ * @param itemId ID do item avaliado
+ * @param tituloItem título do item avaliado
+ * @param usuarioId ID do autor
+ * @param nomeUsuario nome de usuário do autor
+ * @param nota nota de 1 a 10 (pode ser nula)
+ * @param statusConsumo status de consumo
+ * @param recomenda se o autor recomenda o item (pode ser nulo)
+ * @param dataAvaliacao data da avaliação
+ */
+public record AvaliacaoResumoDTO(Long id, Long itemId, String tituloItem, Long usuarioId, String nomeUsuario,
+                                 Integer nota, StatusConsumo statusConsumo, Boolean recomenda,
+                                 LocalDateTime dataAvaliacao) {
+}
@@ -0,0 +1,32 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Quantos usuários têm o item nos favoritos, por categoria (todas presentes, zero se vazia).
+ *
+ * @param itemId ID do item cultural
+ * @param totalPorCategoria quantidade de usuários por categoria
+ */
+public record ContagemFavoritosItemDTO(Long itemId, Map<CategoriaFavorito, Long> totalPorCategoria) {
+
+    public ContagemFavoritosItemDTO {
+        Map<CategoriaFavorito, Long> completo = new EnumMap<>(CategoriaFavorito.class);
+        for (CategoriaFavorito categoria : CategoriaFavorito.values()) {
+            completo.put(categoria, totalPorCategoria.getOrDefault(categoria, 0L));
+        }
+        totalPorCategoria = Collections.unmodifiableMap(completo);
+    }
+
+    public long total() {
+        return totalPorCategoria.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long total(CategoriaFavorito categoria) {
+        return totalPorCategoria.get(categoria);
+    }
+}
@@ -0,0 +1,17 @@
+package br.upf.ads175.critiquehub.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Posição na listagem de usuários ordenada por (dataRegistro, id) decrescente:
+ * a próxima página começa logo depois do usuário identificado aqui.
+ *
+ * @param dataRegistro data de registro do último usuário da página anterior
+ * @param id ID do último usuário da página anterior
+ */
+public record CursorUsuarioDTO(LocalDate dataRegistro, Long id) {
+
+    public static CursorUsuarioDTO apos(UsuarioResumoDTO usuario) {
+        return new CursorUsuarioDTO(usuario.dataRegistro(), usuario.id());
+    }
+}
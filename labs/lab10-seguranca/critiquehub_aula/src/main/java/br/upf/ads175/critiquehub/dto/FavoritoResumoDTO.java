@@ -0,0 +1,19 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de um favorito para listagens (sem sinopse nem observações).
+ *
+ * @param itemId ID do item cultural
+ * @param titulo título do item
+ * @param tipo tipo do item
+ * @param categoria categoria do favorito
+ * @param dataAdicao quando o item foi favoritado
+ */
+public record FavoritoResumoDTO(Long itemId, String titulo, TipoItem tipo,
+                                CategoriaFavorito categoria, LocalDateTime dataAdicao) {
+}
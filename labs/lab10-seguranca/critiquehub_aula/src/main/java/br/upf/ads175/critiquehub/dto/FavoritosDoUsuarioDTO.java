@@ -0,0 +1,48 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice imutável dos favoritos de um usuário: IDs de itens por categoria.
+ *
+ * @param usuarioId ID do usuário
+ * @param categoriaPorItem categoria de cada item favoritado
+ */
+public record FavoritosDoUsuarioDTO(Long usuarioId, Map<Long, CategoriaFavorito> categoriaPorItem) {
+
+    public FavoritosDoUsuarioDTO {
+        categoriaPorItem = Map.copyOf(categoriaPorItem);
+    }
+
+    /**
+     * Retorna a categoria de cada item informado que está nos favoritos.
+     * Itens que não são favoritos não aparecem no mapa.
+     */
+    public Map<Long, CategoriaFavorito> filtrar(Collection<Long> itemIds) {
+        Map<Long, CategoriaFavorito> resultado = new HashMap<>();
+        for (Long itemId : itemIds) {
+            CategoriaFavorito categoria = categoriaPorItem.get(itemId);
+            if (categoria != null) {
+                resultado.put(itemId, categoria);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Agrupa os IDs dos itens favoritados por categoria.
+     */
+    public Map<CategoriaFavorito, Set<Long>> itensPorCategoria() {
+        Map<CategoriaFavorito, Set<Long>> agrupados = new EnumMap<>(CategoriaFavorito.class);
+        categoriaPorItem.forEach((itemId, categoria) ->
+            agrupados.computeIfAbsent(categoria, c -> new HashSet<>()).add(itemId));
+        return agrupados;
+    }
+}
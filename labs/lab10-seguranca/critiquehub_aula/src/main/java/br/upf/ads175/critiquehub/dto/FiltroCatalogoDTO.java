@@ -0,0 +1,35 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+
+import java.util.Set;
+
+/**
+ * Filtro facetado do catálogo de itens culturais.
+ *
+ * Dimensões diferentes são combinadas com AND; dentro de uma mesma dimensão
+ * os valores são combinados com OR, exceto {@code todasAsTags}, que exige todas.
+ *
+ * @param todasAsTags IDs de tags que o item deve possuir simultaneamente
+ * @param algumaDasTags IDs de tags das quais o item deve possuir ao menos uma
+ * @param tipos tipos de item aceitos
+ * @param anosLancamento anos de lançamento aceitos
+ * @param apenasAtivos se true, considera apenas itens ativos
+ */
+public record FiltroCatalogoDTO(Set<Long> todasAsTags, Set<Long> algumaDasTags, Set<TipoItem> tipos,
+                                Set<Integer> anosLancamento, boolean apenasAtivos) {
+
+    public FiltroCatalogoDTO {
+        todasAsTags = todasAsTags != null ? Set.copyOf(todasAsTags) : Set.of();
+        algumaDasTags = algumaDasTags != null ? Set.copyOf(algumaDasTags) : Set.of();
+        tipos = tipos != null ? Set.copyOf(tipos) : Set.of();
+        anosLancamento = anosLancamento != null ? Set.copyOf(anosLancamento) : Set.of();
+    }
+
+    /**
+     * Filtro vazio sobre os itens ativos do catálogo.
+     */
+    public static FiltroCatalogoDTO ativos() {
+        return new FiltroCatalogoDTO(null, null, null, null, true);
+    }
+}
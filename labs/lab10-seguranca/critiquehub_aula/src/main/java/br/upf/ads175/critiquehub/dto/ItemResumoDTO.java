@@ -0,0 +1,18 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Resumo de um item cultural para páginas de listagem do catálogo.
+ *
+ * @param id ID do item
+ * @param titulo título do item
+ * @param tipo tipo do item
+ * @param dataLancamento data de lançamento (pode ser nula)
+ * @param tagIds IDs das tags do item
+ */
+public record ItemResumoDTO(Long id, String titulo, TipoItem tipo, LocalDate dataLancamento, List<Long> tagIds) {
+}
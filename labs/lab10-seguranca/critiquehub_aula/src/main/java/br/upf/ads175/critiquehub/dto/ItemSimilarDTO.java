@@ -0,0 +1,10 @@
+package br.upf.ads175.critiquehub.dto;
+
+/**
+ * Item semelhante a um item de referência.
+ *
+ * @param itemId ID do item semelhante
+ * @param similaridade índice de Jaccard entre os conjuntos de tags (0 a 1)
+ */
+public record ItemSimilarDTO(Long itemId, double similaridade) {
+}
@@ -0,0 +1,10 @@
+package br.upf.ads175.critiquehub.dto;
+
+/**
+ * Total de visualizações de um item cultural.
+ *
+ * @param itemId ID do item
+ * @param visualizacoes visualizações gravadas mais as ainda pendentes em memória
+ */
+public record ItemVisualizacoesDTO(Long itemId, long visualizacoes) {
+}
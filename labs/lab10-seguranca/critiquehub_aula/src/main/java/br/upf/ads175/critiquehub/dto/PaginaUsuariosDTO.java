@@ -0,0 +1,16 @@
+package br.upf.ads175.critiquehub.dto;
+
+import java.util.List;
+
+/**
+ * Página de usuários obtida por cursor.
+ *
+ * @param usuarios usuários da página
+ * @param proximo cursor da próxima página ({@code null} na última)
+ */
+public record PaginaUsuariosDTO(List<UsuarioResumoDTO> usuarios, CursorUsuarioDTO proximo) {
+
+    public boolean temProxima() {
+        return proximo != null;
+    }
+}
@@ -0,0 +1,15 @@
+package br.upf.ads175.critiquehub.dto;
+
+/**
+ * Progresso (ou resultado final) de uma importação do catálogo.
+ *
+ * @param identificador identificador da importação
+ * @param registrosProcessados registros lidos do arquivo, incluindo inválidos
+ * @param itensImportados itens inseridos
+ * @param tagsCriadas tags novas criadas
+ * @param registrosInvalidos registros ignorados por dados inválidos
+ * @param concluida se o arquivo foi processado até o fim
+ */
+public record ProgressoImportacaoDTO(String identificador, long registrosProcessados, long itensImportados,
+                                     long tagsCriadas, long registrosInvalidos, boolean concluida) {
+}
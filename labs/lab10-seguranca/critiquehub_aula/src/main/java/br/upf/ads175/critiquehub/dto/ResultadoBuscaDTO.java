@@ -0,0 +1,12 @@
+package br.upf.ads175.critiquehub.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados da busca textual no catálogo.
+ *
+ * @param total total de itens encontrados
+ * @param itemIds IDs dos itens da página, do mais para o menos relevante
+ */
+public record ResultadoBuscaDTO(long total, List<Long> itemIds) {
+}
@@ -0,0 +1,19 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de uma consulta facetada ao catálogo.
+ *
+ * @param total total de itens que atendem ao filtro
+ * @param itemIds IDs dos itens da página solicitada, em ordem crescente de ID
+ * @param contagemPorTag quantidade de itens do resultado por tag
+ * @param contagemPorTipo quantidade de itens do resultado por tipo
+ * @param contagemPorAno quantidade de itens do resultado por ano de lançamento
+ */
+public record ResultadoFacetasDTO(long total, List<Long> itemIds, Map<Long, Long> contagemPorTag,
+                                  Map<TipoItem, Long> contagemPorTipo, Map<Integer, Long> contagemPorAno) {
+}
@@ -0,0 +1,17 @@
+package br.upf.ads175.critiquehub.dto;
+
+/**
+ * Resultado do provisionamento de uma linha do lote.
+ *
+ * @param linha posição da linha no lote (a partir de 0)
+ * @param email email normalizado (ou o informado, se inválido)
+ * @param nomeUsuario nome de usuário informado
+ * @param situacao desfecho da linha
+ * @param usuarioId ID do usuário criado ({@code null} se não criado)
+ * @param mensagem motivo da recusa ({@code null} se criado)
+ */
+public record ResultadoProvisionamentoDTO(int linha, String email, String nomeUsuario, Situacao situacao,
+                                          Long usuarioId, String mensagem) {
+
+    public enum Situacao { CRIADO, INVALIDO, DUPLICADO_NO_LOTE, JA_CADASTRADO }
+}
@@ -0,0 +1,28 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Quantidade de favoritos de um usuário em cada categoria (todas presentes, zero se vazia).
+ *
+ * @param usuarioId ID do usuário
+ * @param totalPorCategoria quantidade de favoritos por categoria
+ */
+public record ResumoFavoritosDTO(Long usuarioId, Map<CategoriaFavorito, Long> totalPorCategoria) {
+
+    public ResumoFavoritosDTO {
+        Map<CategoriaFavorito, Long> completo = new EnumMap<>(CategoriaFavorito.class);
+        for (CategoriaFavorito categoria : CategoriaFavorito.values()) {
+            completo.put(categoria, totalPorCategoria.getOrDefault(categoria, 0L));
+        }
+        totalPorCategoria = Collections.unmodifiableMap(completo);
+    }
+
+    public long total() {
+        return totalPorCategoria.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,11 @@
+package br.upf.ads175.critiquehub.dto;
+
+/**
+ * Tag sugerida a partir da co-ocorrência com outra tag nos itens culturais.
+ *
+ * @param tagId ID da tag relacionada
+ * @param coocorrencias número de itens que possuem as duas tags
+ * @param pmi informação mútua pontual (PMI) entre as duas tags
+ */
+public record TagRelacionadaDTO(Long tagId, long coocorrencias, double pmi) {
+}
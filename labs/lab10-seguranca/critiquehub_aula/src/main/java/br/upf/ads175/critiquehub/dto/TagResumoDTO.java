@@ -0,0 +1,11 @@
+package br.upf.ads175.critiquehub.dto;
+
+/**
+ * Projeção de tag para listagens.
+ *
+ * @param id ID da tag
+ * @param nome nome normalizado
+ * @param cor cor em hexadecimal (#RRGGBB)
+ */
+public record TagResumoDTO(Long id, String nome, String cor) {
+}
@@ -0,0 +1,12 @@
+package br.upf.ads175.critiquehub.dto;
+
+/**
+ * Usuário encontrado pela busca por nome, com a similaridade do trecho buscado.
+ *
+ * @param id ID do usuário
+ * @param nomeUsuario nome de usuário
+ * @param nomeCompleto nome completo
+ * @param similaridade fração dos trigramas da busca presentes no usuário (0 a 1)
+ */
+public record UsuarioEncontradoDTO(Long id, String nomeUsuario, String nomeCompleto, double similaridade) {
+}
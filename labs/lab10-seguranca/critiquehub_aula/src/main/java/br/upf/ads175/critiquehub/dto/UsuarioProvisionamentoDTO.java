@@ -0,0 +1,11 @@
+package br.upf.ads175.critiquehub.dto;
+
+/**
+ * Linha de uma lista de usuários a provisionar em lote (ex.: lista de alunos da instituição).
+ *
+ * @param email email do usuário
+ * @param nomeUsuario nome de usuário desejado
+ * @param nomeCompleto nome completo
+ */
+public record UsuarioProvisionamentoDTO(String email, String nomeUsuario, String nomeCompleto) {
+}
@@ -0,0 +1,18 @@
+package br.upf.ads175.critiquehub.dto;
+
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção de usuário para listagens (sem roles, senha ou biografia).
+ *
+ * @param id ID do usuário
+ * @param nomeUsuario nome de usuário
+ * @param nomeCompleto nome completo
+ * @param status status atual
+ * @param dataRegistro data de registro
+ */
+public record UsuarioResumoDTO(Long id, String nomeUsuario, String nomeCompleto,
+                               StatusUsuario status, LocalDate dataRegistro) {
+}
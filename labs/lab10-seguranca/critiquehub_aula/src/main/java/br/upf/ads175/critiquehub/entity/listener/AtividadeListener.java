@@ -0,0 +1,35 @@
+package br.upf.ads175.critiquehub.entity.listener;
+
+import br.upf.ads175.critiquehub.dto.AtividadeDTO;
+import br.upf.ads175.critiquehub.entity.model.Avaliacao;
+import br.upf.ads175.critiquehub.entity.model.Comentario;
+import br.upf.ads175.critiquehub.event.AtividadePublicada;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.PostPersist;
+
+/**
+ * Listener JPA que publica novas avaliações públicas e comentários em avaliações
+ * públicas como {@link AtividadePublicada}, alimentando as timelines dos seguidores.
+ */
+@ApplicationScoped
+public class AtividadeListener {
+
+    @Inject
+    Event<AtividadePublicada> atividadePublicada;
+
+    @PostPersist
+    void aoPersistir(Object entidade) {
+        if (entidade instanceof Avaliacao avaliacao && Boolean.TRUE.equals(avaliacao.getPublica())) {
+            atividadePublicada.fire(new AtividadePublicada(new AtividadeDTO(AtividadeDTO.Tipo.AVALIACAO,
+                    avaliacao.getId(), avaliacao.getUsuario().getId(), avaliacao.getId(),
+                    avaliacao.getDataAvaliacao())));
+        } else if (entidade instanceof Comentario comentario
+                && Boolean.TRUE.equals(comentario.getAvaliacao().getPublica())) {
+            atividadePublicada.fire(new AtividadePublicada(new AtividadeDTO(AtividadeDTO.Tipo.COMENTARIO,
+                    comentario.getId(), comentario.getAutor().getId(), comentario.getAvaliacao().getId(),
+                    comentario.getDataComentario())));
+        }
+    }
+}
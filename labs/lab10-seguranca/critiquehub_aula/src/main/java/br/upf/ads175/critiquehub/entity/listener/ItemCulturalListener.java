@@ -0,0 +1,34 @@
+package br.upf.ads175.critiquehub.entity.listener;
+
+import br.upf.ads175.critiquehub.entity.model.ItemCultural;
+import br.upf.ads175.critiquehub.event.ItemCulturalAlterado;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA que publica as alterações de {@link ItemCultural} como eventos CDI,
+ * mantendo os índices em memória do catálogo sincronizados com o banco.
+ */
+@ApplicationScoped
+public class ItemCulturalListener {
+
+    @Inject
+    Event<ItemCulturalAlterado> itemCulturalAlterado;
+
+    @PostPersist
+    @PostUpdate
+    void aoGravar(ItemCultural item) {
+        itemCulturalAlterado.fire(new ItemCulturalAlterado(item.getId(), item.getTitulo(), item.getSinopse(), item.getTipo(),
+                item.getDataLancamento(), Boolean.TRUE.equals(item.getAtivo()), false));
+    }
+
+    @PostRemove
+    void aoRemover(ItemCultural item) {
+        itemCulturalAlterado.fire(new ItemCulturalAlterado(item.getId(), item.getTitulo(), item.getSinopse(), item.getTipo(),
+                item.getDataLancamento(), false, true));
+    }
+}
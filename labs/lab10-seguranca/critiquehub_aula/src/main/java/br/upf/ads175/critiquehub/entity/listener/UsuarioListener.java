@@ -0,0 +1,34 @@
+package br.upf.ads175.critiquehub.entity.listener;
+
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import br.upf.ads175.critiquehub.event.UsuarioAlterado;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA que publica as alterações de {@link Usuario} como eventos CDI,
+ * mantendo o índice de busca de usuários sincronizado com o banco.
+ */
+@ApplicationScoped
+public class UsuarioListener {
+
+    @Inject
+    Event<UsuarioAlterado> usuarioAlterado;
+
+    @PostPersist
+    @PostUpdate
+    void aoGravar(Usuario usuario) {
+        usuarioAlterado.fire(new UsuarioAlterado(usuario.getId(), usuario.getNomeUsuario(),
+                usuario.getNomeCompleto(), usuario.getStatus(), false));
+    }
+
+    @PostRemove
+    void aoRemover(Usuario usuario) {
+        usuarioAlterado.fire(new UsuarioAlterado(usuario.getId(), usuario.getNomeUsuario(),
+                usuario.getNomeCompleto(), usuario.getStatus(), true));
+    }
+}
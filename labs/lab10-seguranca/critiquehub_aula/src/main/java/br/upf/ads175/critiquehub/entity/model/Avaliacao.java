@@ -1,6 +1,7 @@
 package br.upf.ads175.critiquehub.entity.model;
 
 import br.upf.ads175.critiquehub.entity.enums.StatusConsumo;
+import br.upf.ads175.critiquehub.entity.listener.AtividadeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.time.LocalDateTime;
@@ -27,6 +28,7 @@ import java.util.stream.Collectors;
  * - Auditoria automática de criação e modificação
  */
 @Entity
+@EntityListeners(AtividadeListener.class)
 @Table(name = "avaliacoes",
        uniqueConstraints = @UniqueConstraint(
            name = "uk_usuario_item",
@@ -69,6 +71,31 @@ import java.util.stream.Collectors;
             AND a.itemCultural.id NOT IN :itensJaAvaliados
             ORDER BY a.nota DESC, a.dataAvaliacao DESC
             """
+    ),
+    @NamedQuery(
+        name = "Avaliacao.listarResumoPorUsuario",
+        query = """
+            SELECT new br.upf.ads175.critiquehub.dto.AvaliacaoResumoDTO(
+                a.id, ic.id, ic.titulo, a.usuario.id, a.usuario.nomeUsuario,
+                a.nota, a.statusConsumo, a.recomenda, a.dataAvaliacao)
+            FROM Avaliacao a
+            JOIN a.itemCultural ic
+            WHERE a.usuario.id = :usuarioId
+            ORDER BY a.dataAvaliacao DESC
+            """
+    ),
+    @NamedQuery(
+        name = "Avaliacao.listarResumoPublicasPorItem",
+        query = """
+            SELECT new br.upf.ads175.critiquehub.dto.AvaliacaoResumoDTO(
+                a.id, a.itemCultural.id, a.itemCultural.titulo, u.id, u.nomeUsuario,
+                a.nota, a.statusConsumo, a.recomenda, a.dataAvaliacao)
+            FROM Avaliacao a
+            JOIN a.usuario u
+            WHERE a.itemCultural.id = :itemId
+            AND a.publica = true
+            ORDER BY a.dataAvaliacao DESC
+            """
     )
 })
 public class Avaliacao extends BaseEntity {
@@ -10,6 +10,12 @@ import java.util.Objects;
 @MappedSuperclass // <1>
 public abstract class BaseEntity {
 
+    /**
+     * Nome do filtro Hibernate que restringe consultas às linhas ativas
+     * (definido em ItemCultural, aplicado também em Tag e Usuario).
+     */
+    public static final String FILTRO_APENAS_ATIVOS = "apenasAtivos";
+
     /**
      * Identificador único da entidade.
      */
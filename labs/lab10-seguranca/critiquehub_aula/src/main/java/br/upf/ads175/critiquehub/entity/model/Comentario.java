@@ -1,5 +1,6 @@
 package br.upf.ads175.critiquehub.entity.model;
 
+import br.upf.ads175.critiquehub.entity.listener.AtividadeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -12,6 +13,7 @@ import java.util.List;
  * Suporta apenas um nível: comentário principal e respostas diretas
  */
 @Entity
+@EntityListeners(AtividadeListener.class)
 @Table(name = "comentarios")
 public class Comentario {
 
@@ -0,0 +1,28 @@
+package br.upf.ads175.critiquehub.entity.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Quantidade de usuários que têm o item nos favoritos em uma categoria.
+ * Gravado apenas pelo ContadoresFavoritosService, na mesma transação da alteração do favorito.
+ */
+@Entity
+@Table(name = "contadores_favoritos")
+public class ContadorFavoritos {
+
+    @EmbeddedId
+    private ContadorFavoritosId id;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    protected ContadorFavoritos() {}
+
+    public ContadorFavoritosId getId() {
+        return id;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
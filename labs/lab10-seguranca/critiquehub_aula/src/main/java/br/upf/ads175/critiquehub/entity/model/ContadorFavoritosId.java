@@ -0,0 +1,54 @@
+package br.upf.ads175.critiquehub.entity.model;
+
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Chave composta para a entidade ContadorFavoritos: item e categoria.
+ */
+@Embeddable
+public class ContadorFavoritosId implements Serializable {
+
+    @Column(name = "item_cultural_id")
+    private Long itemCulturalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "categoria", length = 50)
+    private CategoriaFavorito categoria;
+
+    public ContadorFavoritosId() {}
+
+    public ContadorFavoritosId(Long itemCulturalId, CategoriaFavorito categoria) {
+        this.itemCulturalId = itemCulturalId;
+        this.categoria = categoria;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ContadorFavoritosId that = (ContadorFavoritosId) o;
+        return Objects.equals(itemCulturalId, that.itemCulturalId) &&
+               categoria == that.categoria;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(itemCulturalId, categoria);
+    }
+
+    public Long getItemCulturalId() {
+        return itemCulturalId;
+    }
+
+    public CategoriaFavorito getCategoria() {
+        return categoria;
+    }
+}
@@ -0,0 +1,39 @@
+package br.upf.ads175.critiquehub.entity.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Total acumulado de visualizações de um item cultural.
+ * Gravado apenas em lote pelo VisualizacoesService (MERGE somando deltas).
+ */
+@Entity
+@Table(name = "contadores_visualizacao",
+       indexes = @Index(name = "idx_contadores_visualizacao_total", columnList = "total"))
+public class ContadorVisualizacao {
+
+    @Id
+    @Column(name = "item_cultural_id")
+    private Long itemCulturalId;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    protected ContadorVisualizacao() {}
+
+    public Long getItemCulturalId() {
+        return itemCulturalId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+}
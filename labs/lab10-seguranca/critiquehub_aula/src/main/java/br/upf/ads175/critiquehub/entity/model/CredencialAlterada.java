@@ -0,0 +1,31 @@
+package br.upf.ads175.critiquehub.entity.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Última alteração de credenciais de um usuário, usada para invalidar o cache de
+ * autenticação nas demais instâncias. Gravada apenas pelo AutenticacaoCache (MERGE).
+ */
+@Entity
+@Table(name = "credenciais_alteradas")
+public class CredencialAlterada {
+
+    @Id
+    @Column(name = "nome_usuario", length = 30)
+    private String nomeUsuario;
+
+    @Column(name = "alterado_em", nullable = false)
+    private Instant alteradoEm;
+
+    protected CredencialAlterada() {}
+
+    public String getNomeUsuario() {
+        return nomeUsuario;
+    }
+
+    public Instant getAlteradoEm() {
+        return alteradoEm;
+    }
+}
@@ -0,0 +1,97 @@
+package br.upf.ads175.critiquehub.entity.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ponto de controle de uma importação em lote do catálogo.
+ *
+ * Atualizado na mesma transação de cada lote gravado, permitindo retomar a
+ * importação do último lote confirmado.
+ */
+@Entity
+@Table(name = "importacoes_catalogo")
+public class ImportacaoCatalogo {
+
+    @Id
+    @Column(name = "identificador", length = 200)
+    private String identificador;
+
+    @Column(name = "registros_processados", nullable = false)
+    private long registrosProcessados;
+
+    @Column(name = "itens_importados", nullable = false)
+    private long itensImportados;
+
+    @Column(name = "tags_criadas", nullable = false)
+    private long tagsCriadas;
+
+    @Column(name = "registros_invalidos", nullable = false)
+    private long registrosInvalidos;
+
+    @Column(name = "concluida", nullable = false)
+    private boolean concluida;
+
+    @Column(name = "iniciada_em", nullable = false)
+    private LocalDateTime iniciadaEm;
+
+    @Column(name = "atualizada_em", nullable = false)
+    private LocalDateTime atualizadaEm;
+
+    protected ImportacaoCatalogo() {}
+
+    public ImportacaoCatalogo(String identificador) {
+        this.identificador = identificador;
+        this.iniciadaEm = LocalDateTime.now();
+        this.atualizadaEm = this.iniciadaEm;
+    }
+
+    /**
+     * Registra um lote gravado.
+     */
+    public void registrarLote(long registros, long itens, long tags, long invalidos) {
+        this.registrosProcessados += registros;
+        this.itensImportados += itens;
+        this.tagsCriadas += tags;
+        this.registrosInvalidos += invalidos;
+        this.atualizadaEm = LocalDateTime.now();
+    }
+
+    public void concluir() {
+        this.concluida = true;
+        this.atualizadaEm = LocalDateTime.now();
+    }
+
+    public String getIdentificador() {
+        return identificador;
+    }
+
+    public long getRegistrosProcessados() {
+        return registrosProcessados;
+    }
+
+    public long getItensImportados() {
+        return itensImportados;
+    }
+
+    public long getTagsCriadas() {
+        return tagsCriadas;
+    }
+
+    public long getRegistrosInvalidos() {
+        return registrosInvalidos;
+    }
+
+    public boolean isConcluida() {
+        return concluida;
+    }
+
+    public LocalDateTime getIniciadaEm() {
+        return iniciadaEm;
+    }
+
+    public LocalDateTime getAtualizadaEm() {
+        return atualizadaEm;
+    }
+}
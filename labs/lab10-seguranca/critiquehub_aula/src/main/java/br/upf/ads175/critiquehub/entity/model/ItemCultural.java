@@ -2,8 +2,13 @@ package br.upf.ads175.critiquehub.entity.model;
 
 import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
 import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.entity.listener.ItemCulturalListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -11,9 +16,16 @@ import java.util.stream.Collectors;
 
 /**
  * Entidade que representa um item cultural no CritiqueHub.
+ *
+ * Mantida no cache de segundo nível (junto com a coleção de tags), pois muda
+ * raramente e é lida em quase toda operação de favoritos, avaliações e tags.
  */
 @Entity
+@Cacheable
 @Table(name = "itens_culturais")
+@EntityListeners(ItemCulturalListener.class)
+@FilterDef(name = BaseEntity.FILTRO_APENAS_ATIVOS)
+@Filter(name = BaseEntity.FILTRO_APENAS_ATIVOS, condition = "ativo = true")
 @NamedQueries({
     @NamedQuery(name = "ItemCultural.buscarPorTitulo",
         query = "SELECT i FROM ItemCultural i WHERE LOWER(i.titulo) LIKE LOWER(:titulo) AND i.ativo = true ORDER BY i.titulo"),
@@ -53,6 +65,7 @@ public class ItemCultural extends BaseEntity {
      * Lado proprietário do relacionamento Many-to-Many com Tag.
      */
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE}, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "item_cultural_tag",
         joinColumns = @JoinColumn(name = "item_cultural_id"),
@@ -65,6 +78,7 @@ public class ItemCultural extends BaseEntity {
     private List<ListaFavoritos> favoritadoPor = new ArrayList<>();
 
     // Método para verificar se é favorito de um usuário
+    // Percorre toda a coleção favoritadoPor; para listas prefira FavoritosService.verificarFavoritos
     public boolean isFavoritoDoUsuario(Usuario usuario) {
         return favoritadoPor.stream()
             .anyMatch(f -> f.getUsuario().getId().equals(usuario.getId()));
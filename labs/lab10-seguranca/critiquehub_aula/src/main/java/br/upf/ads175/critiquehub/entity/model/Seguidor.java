@@ -0,0 +1,38 @@
+package br.upf.ads175.critiquehub.entity.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Relação "segue" entre dois usuários.
+ *
+ * Mapeada só com os IDs (sem associações): é lida em massa para montar o grafo
+ * em memória do SeguidoresService e nunca navegada a partir de Usuario.
+ */
+@Entity
+@Table(name = "seguidores",
+       indexes = @Index(name = "idx_seguidores_seguido", columnList = "seguido_id, seguidor_id"))
+public class Seguidor {
+
+    @EmbeddedId
+    private SeguidorId id;
+
+    @Column(name = "data_inicio", nullable = false)
+    private LocalDateTime dataInicio;
+
+    protected Seguidor() {}
+
+    public Seguidor(Long seguidorId, Long seguidoId) {
+        this.id = new SeguidorId(seguidorId, seguidoId);
+        this.dataInicio = LocalDateTime.now();
+    }
+
+    public SeguidorId getId() {
+        return id;
+    }
+
+    public LocalDateTime getDataInicio() {
+        return dataInicio;
+    }
+}
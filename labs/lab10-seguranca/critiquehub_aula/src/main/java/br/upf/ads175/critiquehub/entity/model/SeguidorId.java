@@ -0,0 +1,49 @@
+package br.upf.ads175.critiquehub.entity.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Chave composta para a entidade Seguidor: quem segue e quem é seguido.
+ */
+@Embeddable
+public class SeguidorId implements Serializable {
+
+    @Column(name = "seguidor_id")
+    private Long seguidorId;
+
+    @Column(name = "seguido_id")
+    private Long seguidoId;
+
+    public SeguidorId() {}
+
+    public SeguidorId(Long seguidorId, Long seguidoId) {
+        this.seguidorId = seguidorId;
+        this.seguidoId = seguidoId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SeguidorId that = (SeguidorId) o;
+        return Objects.equals(seguidorId, that.seguidorId) &&
+               Objects.equals(seguidoId, that.seguidoId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(seguidorId, seguidoId);
+    }
+
+    public Long getSeguidorId() {
+        return seguidorId;
+    }
+
+    public Long getSeguidoId() {
+        return seguidoId;
+    }
+}
@@ -2,6 +2,7 @@ package br.upf.ads175.critiquehub.entity.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Filter;
 
 import java.util.HashSet;
 import java.util.Random;
@@ -9,12 +10,15 @@ import java.util.Set;
 
 /**
  * Entidade que representa uma tag no CritiqueHub.
+ * Mantida no cache de segundo nível.
  */
 @Entity
+@Cacheable
 @Table(name = "tags")
+@Filter(name = BaseEntity.FILTRO_APENAS_ATIVOS, condition = "ativo = true")
 @NamedQueries({
     @NamedQuery(name = "Tag.buscarPorNome",
-        query = "SELECT t FROM Tag t WHERE LOWER(t.nome) LIKE LOWER(:nome) AND t.ativo = true ORDER BY t.nome"),
+        query = "SELECT t FROM Tag t WHERE t.nome LIKE :nome AND t.ativo = true ORDER BY t.nome"),
     @NamedQuery(name = "Tag.listarAtivas",
         query = "SELECT t FROM Tag t WHERE t.ativo = true ORDER BY t.nome"),
     @NamedQuery(name = "Tag.buscarMaisUsadas",
@@ -60,7 +64,11 @@ public class Tag extends BaseEntity {
         this.descricao = descricao != null ? descricao.trim() : null;
     }
 
-    private String normalizarNome(String nome) {
+    /**
+     * Normaliza o nome da tag (minúsculas, sem espaços nas pontas).
+     * A coluna nome é sempre gravada nesse formato, permitindo buscas por igualdade.
+     */
+    public static String normalizarNome(String nome) {
         if (nome == null || nome.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome da tag não pode ser vazio");
         }
@@ -0,0 +1,31 @@
+package br.upf.ads175.critiquehub.entity.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Instante a partir do qual os tokens de sessão de um usuário deixam de valer.
+ * Gravado apenas pelo TokenSessaoService (MERGE) e relido por todas as instâncias.
+ */
+@Entity
+@Table(name = "tokens_revogados")
+public class TokenRevogado {
+
+    @Id
+    @Column(name = "usuario_id")
+    private Long usuarioId;
+
+    @Column(name = "revogado_em", nullable = false)
+    private Instant revogadoEm;
+
+    protected TokenRevogado() {}
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public Instant getRevogadoEm() {
+        return revogadoEm;
+    }
+}
@@ -1,9 +1,13 @@
 package br.upf.ads175.critiquehub.entity.model;
 
 import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+import br.upf.ads175.critiquehub.entity.listener.UsuarioListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
 import java.time.LocalDate;
-import java.time.Period;import java.util.ArrayList;import java.util.List;import java.util.stream.Collectors;
+import java.time.Period;import java.util.ArrayList;import java.util.Collections;import java.util.List;import java.util.stream.Collectors;
 
 /**
  * Entidade principal representando um usuário da plataforma CritiqueHub.
@@ -13,9 +17,13 @@ import java.time.Period;import java.util.ArrayList;import java.util.List;import
  * - Uso de enumerações
  * - Named Queries essenciais
  * - Métodos de negócio simples
+ * - Cache de segundo nível (entidade e roles)
  */
 @Entity // <1>
+@Cacheable
 @Table(name = "usuarios") // <2>
+@EntityListeners(UsuarioListener.class)
+@Filter(name = BaseEntity.FILTRO_APENAS_ATIVOS, condition = "status = 'ATIVO'")
 @NamedQueries({ // <3>
     @NamedQuery(
         name = "Usuario.buscarPorEmail",
@@ -23,11 +31,11 @@ import java.time.Period;import java.util.ArrayList;import java.util.List;import
     ),
     @NamedQuery(
         name = "Usuario.buscarPorNomeUsuario",
-        query = "SELECT u FROM Usuario u WHERE u.nomeUsuario = :nomeUsuario"
+        query = "SELECT u FROM Usuario u WHERE LOWER(u.nomeUsuario) = :nomeUsuario"
     ),
     @NamedQuery(
         name = "Usuario.listarAtivos",
-        query = "SELECT u FROM Usuario u WHERE u.status = 'ATIVO' ORDER BY u.dataRegistro DESC"
+        query = "SELECT u FROM Usuario u WHERE u.status = 'ATIVO' ORDER BY u.dataRegistro DESC, u.id DESC"
     )
 })
 public class Usuario extends BaseEntity {
@@ -37,7 +45,7 @@ public class Usuario extends BaseEntity {
     // ========================================================================
 
     /**
-     * Email único do usuário.
+     * Email único do usuário, sempre gravado normalizado (minúsculas, sem espaços).
      */
     @Column(name = "email", nullable = false, unique = true, length = 255) // <4>
     private String email;
@@ -97,6 +105,7 @@ public class Usuario extends BaseEntity {
     private List<ListaFavoritos> favoritos = new ArrayList<>();
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(
             name="usuarios_roles",
             joinColumns = @JoinColumn(name = "usuario_id"),
@@ -129,6 +138,13 @@ public class Usuario extends BaseEntity {
         favoritos.removeIf(f -> f.getItemCultural().getId().equals(item.getId()));
     }
 
+    /**
+     * Filtra em memória a coleção completa de favoritos (inicializa {@code favoritos}).
+     *
+     * @deprecated use {@code FavoritosService.resumirFavoritos} e
+     *             {@code FavoritosService.listarResumoPorCategoria}, que consultam só o necessário
+     */
+    @Deprecated
     public List<ListaFavoritos> getFavoritosPorCategoria(CategoriaFavorito categoria) {
         return favoritos.stream()
             .filter(f -> f.getCategoria() == categoria)
@@ -152,7 +168,7 @@ public class Usuario extends BaseEntity {
      */
     public Usuario(String email, String nomeUsuario, String nomeCompleto) { // <9>
         this();
-        this.email = email;
+        this.email = normalizarEmail(email);
         this.nomeUsuario = nomeUsuario;
         this.nomeCompleto = nomeCompleto;
     }
@@ -200,6 +216,20 @@ public class Usuario extends BaseEntity {
         return Period.between(dataNascimento, LocalDate.now()).getYears();
     }
 
+    /**
+     * Normaliza o email para gravação e busca por igualdade no índice único.
+     */
+    public static String normalizarEmail(String email) {
+        return email != null ? email.trim().toLowerCase() : null;
+    }
+
+    /**
+     * Normaliza o nome de usuário para buscas no índice LOWER(nome_usuario).
+     */
+    public static String normalizarNomeUsuario(String nomeUsuario) {
+        return nomeUsuario != null ? nomeUsuario.trim().toLowerCase() : null;
+    }
+
     // ========================================================================
     // Getters e Setters
     // ========================================================================
@@ -209,7 +239,7 @@ public class Usuario extends BaseEntity {
     }
 
     public void setEmail(String email) {
-        this.email = email;
+        this.email = normalizarEmail(email);
     }
 
     public String getNomeUsuario() {
@@ -228,6 +258,17 @@ public class Usuario extends BaseEntity {
         this.senha = senha;
     }
 
+    public Set<String> getRoles() {
+        return Collections.unmodifiableSet(roles);
+    }
+
+    public void setRoles(Set<String> roles) {
+        this.roles.clear();
+        if (roles != null) {
+            this.roles.addAll(roles);
+        }
+    }
+
     public String getNomeCompleto() {
         return nomeCompleto;
     }
@@ -0,0 +1,12 @@
+package br.upf.ads175.critiquehub.event;
+
+import br.upf.ads175.critiquehub.dto.AtividadeDTO;
+
+/**
+ * Evento disparado quando uma avaliação pública ou um comentário em avaliação
+ * pública é gravado.
+ *
+ * @param atividade atividade publicada
+ */
+public record AtividadePublicada(AtividadeDTO atividade) {
+}
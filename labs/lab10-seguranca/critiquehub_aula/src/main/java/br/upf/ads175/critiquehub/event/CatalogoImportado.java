@@ -0,0 +1,13 @@
+package br.upf.ads175.critiquehub.event;
+
+/**
+ * Evento disparado ao final de uma importação em lote do catálogo.
+ *
+ * A importação grava direto via JDBC, sem passar pelos listeners de
+ * {@code ItemCultural}; os índices em memória devem se reconstruir ao recebê-lo.
+ *
+ * @param identificador identificador da importação
+ * @param itensImportados quantidade de itens inseridos nesta execução
+ */
+public record CatalogoImportado(String identificador, long itensImportados) {
+}
@@ -0,0 +1,10 @@
+package br.upf.ads175.critiquehub.event;
+
+/**
+ * Evento disparado quando muda algo que afeta a autenticação de um usuário:
+ * criação, status, roles ou remoção.
+ *
+ * @param nomeUsuario nome de usuário afetado
+ */
+public record CredenciaisUsuarioAlteradas(String nomeUsuario) {
+}
@@ -0,0 +1,20 @@
+package br.upf.ads175.critiquehub.event;
+
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+
+/**
+ * Evento disparado quando um favorito é adicionado, removido ou muda de categoria.
+ *
+ * Uma categoria nula indica ausência: {@code categoriaAnterior} nula é uma
+ * inclusão e {@code categoriaAtual} nula é uma remoção. Disparado dentro da
+ * transação da alteração: observadores síncronos gravam junto com ela (como os
+ * contadores de favoritos), e caches em memória usam {@code AFTER_SUCCESS}.
+ *
+ * @param usuarioId ID do usuário dono do favorito
+ * @param itemId ID do item cultural favoritado
+ * @param categoriaAnterior categoria antes da alteração (nula se não era favorito)
+ * @param categoriaAtual categoria após a alteração (nula se deixou de ser favorito)
+ */
+public record FavoritoAlterado(Long usuarioId, Long itemId,
+                               CategoriaFavorito categoriaAnterior, CategoriaFavorito categoriaAtual) {
+}
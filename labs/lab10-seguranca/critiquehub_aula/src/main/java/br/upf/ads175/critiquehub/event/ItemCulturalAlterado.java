@@ -0,0 +1,23 @@
+package br.upf.ads175.critiquehub.event;
+
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+
+import java.time.LocalDate;
+
+/**
+ * Evento disparado quando um item cultural é inserido, atualizado ou removido.
+ *
+ * Carrega o estado do item após a alteração (exceto tags, cobertas por
+ * {@link TagsDoItemAlteradas}).
+ *
+ * @param itemId ID do item cultural
+ * @param titulo título do item
+ * @param sinopse sinopse do item (pode ser nula)
+ * @param tipo tipo do item
+ * @param dataLancamento data de lançamento (pode ser nula)
+ * @param ativo se o item está ativo no catálogo
+ * @param removido se o item foi excluído do banco
+ */
+public record ItemCulturalAlterado(Long itemId, String titulo, String sinopse, TipoItem tipo,
+                                   LocalDate dataLancamento, boolean ativo, boolean removido) {
+}
@@ -0,0 +1,11 @@
+package br.upf.ads175.critiquehub.event;
+
+/**
+ * Evento disparado quando um usuário passa a seguir ou deixa de seguir outro.
+ *
+ * @param seguidorId quem segue
+ * @param seguidoId quem é seguido
+ * @param seguindo {@code true} ao seguir, {@code false} ao deixar de seguir
+ */
+public record SeguimentoAlterado(Long seguidorId, Long seguidoId, boolean seguindo) {
+}
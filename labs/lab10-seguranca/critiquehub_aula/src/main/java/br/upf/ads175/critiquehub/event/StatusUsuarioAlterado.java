@@ -0,0 +1,21 @@
+package br.upf.ads175.critiquehub.event;
+
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+
+import java.time.LocalDate;
+
+/**
+ * Evento disparado quando um usuário é criado, muda de status ou é removido.
+ *
+ * Os observadores que somam e subtraem contadores a partir de
+ * {@code statusAnterior}/{@code statusAtual} precisam usar {@code AFTER_SUCCESS}:
+ * aplicar a diferença de uma transação desfeita deixa a contagem errada.
+ *
+ * @param usuarioId ID do usuário
+ * @param statusAnterior status antes da alteração ({@code null} na criação)
+ * @param statusAtual status após a alteração ({@code null} na remoção)
+ * @param dataRegistro data de registro do usuário
+ */
+public record StatusUsuarioAlterado(Long usuarioId, StatusUsuario statusAnterior, StatusUsuario statusAtual,
+                                    LocalDate dataRegistro) {
+}
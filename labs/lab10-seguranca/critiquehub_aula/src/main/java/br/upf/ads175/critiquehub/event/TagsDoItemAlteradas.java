@@ -0,0 +1,25 @@
+package br.upf.ads175.critiquehub.event;
+
+import java.util.Set;
+
+/**
+ * Evento disparado quando o conjunto de tags de um item cultural é alterado.
+ *
+ * Carrega os IDs das tags antes e depois da alteração, permitindo que os
+ * índices em memória apliquem apenas a diferença, o que só é correto com
+ * {@code AFTER_SUCCESS}.
+ *
+ * @param itemId ID do item cultural alterado
+ * @param tagIdsAnteriores IDs das tags antes da alteração
+ * @param tagIdsAtuais IDs das tags após a alteração
+ * @param nomesTagsAtuais nomes das tags após a alteração
+ */
+public record TagsDoItemAlteradas(Long itemId, Set<Long> tagIdsAnteriores, Set<Long> tagIdsAtuais,
+                                  Set<String> nomesTagsAtuais) {
+
+    public TagsDoItemAlteradas {
+        tagIdsAnteriores = Set.copyOf(tagIdsAnteriores);
+        tagIdsAtuais = Set.copyOf(tagIdsAtuais);
+        nomesTagsAtuais = Set.copyOf(nomesTagsAtuais);
+    }
+}
@@ -0,0 +1,18 @@
+package br.upf.ads175.critiquehub.event;
+
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+
+/**
+ * Evento disparado quando um usuário é inserido, atualizado ou removido.
+ *
+ * Carrega os dados do usuário usados pela busca por nome.
+ *
+ * @param usuarioId ID do usuário
+ * @param nomeUsuario nome de usuário
+ * @param nomeCompleto nome completo
+ * @param status status atual
+ * @param removido se o usuário foi excluído do banco
+ */
+public record UsuarioAlterado(Long usuarioId, String nomeUsuario, String nomeCompleto,
+                              StatusUsuario status, boolean removido) {
+}
@@ -0,0 +1,16 @@
+package br.upf.ads175.critiquehub.exception;
+
+/**
+ * Exceção lançada quando uma operação é recusada por falta de capacidade
+ * (fila cheia ou tempo de espera esgotado), em vez de acumular requisições.
+ */
+public class ServicoSobrecarregadoException extends RuntimeException {
+
+    public ServicoSobrecarregadoException(String mensagem) {
+        super(mensagem);
+    }
+
+    public ServicoSobrecarregadoException(String mensagem, Throwable causa) {
+        super(mensagem, causa);
+    }
+}
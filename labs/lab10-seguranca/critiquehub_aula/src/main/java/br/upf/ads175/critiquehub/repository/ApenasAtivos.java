@@ -0,0 +1,23 @@
+package br.upf.ads175.critiquehub.repository;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Habilita o filtro {@code apenasAtivos} durante a execução do método (ou de
+ * todos os métodos da classe anotada).
+ *
+ * Com o filtro ativo, toda consulta HQL/JPQL sobre ItemCultural, Tag e Usuario
+ * recebe o predicado de linha ativa (ativo = true / status = 'ATIVO'), o mesmo
+ * dos índices parciais criados na migração V1.4. Buscas por ID
+ * ({@code find}/{@code findById}) não são afetadas.
+ */
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ApenasAtivos {
+}
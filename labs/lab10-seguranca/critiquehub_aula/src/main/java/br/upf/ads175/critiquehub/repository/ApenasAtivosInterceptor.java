@@ -0,0 +1,58 @@
+package br.upf.ads175.critiquehub.repository;
+
+import br.upf.ads175.critiquehub.entity.model.BaseEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.narayana.jta.QuarkusTransactionException;
+import io.quarkus.narayana.jta.TransactionExceptionResult;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+/**
+ * Liga o filtro {@link BaseEntity#FILTRO_APENAS_ATIVOS} na sessão atual durante
+ * métodos anotados com {@link ApenasAtivos} e o desliga ao final, a menos que
+ * já estivesse ligado (chamadas aninhadas). Fora de transação, abre uma para
+ * que o filtro e as consultas do método usem a mesma sessão.
+ */
+@ApenasAtivos
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER + 10) // depois de @Transactional: usa a sessão da transação
+public class ApenasAtivosInterceptor {
+
+    @Inject
+    EntityManager entityManager;
+
+    @AroundInvoke
+    Object aplicarFiltro(InvocationContext contexto) throws Exception {
+        // Sem transação cada consulta poderia usar outra sessão, sem o filtro ligado.
+        // Exceções não desfazem a transação aqui: quem decide é a transação do chamador.
+        try {
+            return QuarkusTransaction.joiningExisting()
+                    .exceptionHandler(erro -> TransactionExceptionResult.COMMIT)
+                    .call(() -> aplicarNaSessao(contexto));
+        } catch (QuarkusTransactionException e) {
+            if (e.getCause() instanceof Exception causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private Object aplicarNaSessao(InvocationContext contexto) throws Exception {
+        Session sessao = entityManager.unwrap(Session.class);
+        if (sessao.getEnabledFilter(BaseEntity.FILTRO_APENAS_ATIVOS) != null) {
+            return contexto.proceed();
+        }
+
+        sessao.enableFilter(BaseEntity.FILTRO_APENAS_ATIVOS);
+        try {
+            return contexto.proceed();
+        } finally {
+            sessao.disableFilter(BaseEntity.FILTRO_APENAS_ATIVOS);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package br.upf.ads175.critiquehub.repository;
+
+import br.upf.ads175.critiquehub.dto.AvaliacaoResumoDTO;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.List;
+
+/**
+ * Repositório de consultas de listagem sobre Avaliacao.
+ *
+ * As listagens devolvem projeções ({@link AvaliacaoResumoDTO}) em vez de
+ * entidades: sem resenha, sem comentários e nada para o dirty checking no flush.
+ */
+@ApplicationScoped
+public class AvaliacaoRepository {
+
+    @Inject
+    EntityManager entityManager;
+
+    /**
+     * Lista as avaliações de um usuário, mais recentes primeiro.
+     *
+     * @param usuarioId ID do usuário
+     * @return resumos das avaliações
+     */
+    public List<AvaliacaoResumoDTO> listarResumoPorUsuario(Long usuarioId) {
+        return entityManager.createNamedQuery("Avaliacao.listarResumoPorUsuario", AvaliacaoResumoDTO.class)
+                .setParameter("usuarioId", usuarioId)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    /**
+     * Lista as avaliações públicas de um item com paginação, mais recentes primeiro.
+     *
+     * @param itemId ID do item cultural
+     * @param pagina número da página (base 0)
+     * @param tamanhoPagina quantidade de registros por página
+     * @return resumos das avaliações
+     */
+    public List<AvaliacaoResumoDTO> listarResumoPublicasPorItem(Long itemId, int pagina, int tamanhoPagina) {
+        return entityManager.createNamedQuery("Avaliacao.listarResumoPublicasPorItem", AvaliacaoResumoDTO.class)
+                .setParameter("itemId", itemId)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setFirstResult(pagina * tamanhoPagina)
+                .setMaxResults(tamanhoPagina)
+                .getResultList();
+    }
+}
@@ -1,36 +1,51 @@
 package br.upf.ads175.critiquehub.repository;
 
+import br.upf.ads175.critiquehub.dto.TagResumoDTO;
 import br.upf.ads175.critiquehub.entity.model.Tag;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
 
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repositório para operações de persistência da entidade Tag.
+ *
+ * O nome da tag é gravado normalizado (ver {@link Tag#normalizarNome(String)}),
+ * então as buscas comparam diretamente com a coluna e usam o índice único de tags.nome.
+ *
+ * Os métodos "Resumo" devolvem {@link TagResumoDTO} (projeção somente leitura)
+ * e são os indicados para telas de listagem.
+ *
+ * As consultas de tags ativas são anotadas com {@link ApenasAtivos}: o predicado
+ * ativo = true vem do filtro e chega ao SQL como literal, casando com os índices
+ * parciais da migração V1.4.
  */
 @ApplicationScoped
 public class TagRepository implements PanacheRepository<Tag> {
 
     /**
-     * Busca uma tag por nome exato (case insensitive).
+     * Busca uma tag por nome exato (case insensitive, via nome normalizado).
      *
      * @param nome nome da tag
      * @return tag encontrada ou empty
      */
     public Optional<Tag> findByNome(String nome) {
-        return find("LOWER(nome) = LOWER(?1)", nome).firstResultOptional();
+        return find("nome = ?1", Tag.normalizarNome(nome)).firstResultOptional();
     }
 
     /**
-     * Busca uma tag ativa por nome exato (case insensitive).
+     * Busca uma tag ativa por nome exato (case insensitive, via nome normalizado).
      *
      * @param nome nome da tag
      * @return tag ativa encontrada ou empty
      */
+    @ApenasAtivos
     public Optional<Tag> findByNomeAtiva(String nome) {
-        return find("LOWER(nome) = LOWER(?1) AND ativo = true", nome).firstResultOptional();
+        return find("nome = ?1", Tag.normalizarNome(nome)).firstResultOptional();
     }
 
     /**
@@ -38,8 +53,9 @@ public class TagRepository implements PanacheRepository<Tag> {
      *
      * @return lista de tags ativas
      */
+    @ApenasAtivos
     public List<Tag> findAllAtivas() {
-        return find("ativo = true ORDER BY nome").list();
+        return find("ORDER BY nome").list();
     }
 
     /**
@@ -52,14 +68,15 @@ public class TagRepository implements PanacheRepository<Tag> {
     }
 
     /**
-     * Busca tags por nome parcial (case insensitive).
+     * Busca tags por nome parcial (case insensitive, via nome normalizado).
      *
      * @param termo termo de busca
      * @return lista de tags que contêm o termo
      */
+    @ApenasAtivos
     public List<Tag> findByNomeParcial(String termo) {
-        return find("LOWER(nome) LIKE LOWER(?1) AND ativo = true ORDER BY nome",
-                   "%" + termo + "%").list();
+        return find("nome LIKE ?1 ORDER BY nome",
+                   "%" + termo.toLowerCase().trim() + "%").list();
     }
 
     /**
@@ -68,8 +85,9 @@ public class TagRepository implements PanacheRepository<Tag> {
      * @param limite número máximo de resultados
      * @return lista das tags mais utilizadas
      */
+    @ApenasAtivos
     public List<Tag> findMaisUsadas(int limite) {
-        return find("ativo = true AND SIZE(itens) > 0 ORDER BY SIZE(itens) DESC")
+        return find("SIZE(itens) > 0 ORDER BY SIZE(itens) DESC")
                 .page(0, limite)
                 .list();
     }
@@ -79,8 +97,9 @@ public class TagRepository implements PanacheRepository<Tag> {
      *
      * @return lista de tags não utilizadas
      */
+    @ApenasAtivos
     public List<Tag> findNaoUtilizadas() {
-        return find("ativo = true AND SIZE(itens) = 0 ORDER BY nome").list();
+        return find("SIZE(itens) = 0 ORDER BY nome").list();
     }
 
     /**
@@ -88,8 +107,9 @@ public class TagRepository implements PanacheRepository<Tag> {
      *
      * @return lista de tags utilizadas
      */
+    @ApenasAtivos
     public List<Tag> findUtilizadas() {
-        return find("ativo = true AND SIZE(itens) > 0 ORDER BY nome").list();
+        return find("SIZE(itens) > 0 ORDER BY nome").list();
     }
 
     /**
@@ -97,8 +117,9 @@ public class TagRepository implements PanacheRepository<Tag> {
      *
      * @return número de tags ativas
      */
+    @ApenasAtivos
     public long countAtivas() {
-        return count("ativo = true");
+        return count();
     }
 
     /**
@@ -115,8 +136,9 @@ public class TagRepository implements PanacheRepository<Tag> {
      *
      * @return número de tags sem itens associados
      */
+    @ApenasAtivos
     public long countNaoUtilizadas() {
-        return count("ativo = true AND SIZE(itens) = 0");
+        return count("SIZE(itens) = 0");
     }
 
     /**
@@ -126,7 +148,7 @@ public class TagRepository implements PanacheRepository<Tag> {
      * @return true se existe, false caso contrário
      */
     public boolean existsByNome(String nome) {
-        return count("LOWER(nome) = LOWER(?1)", nome) > 0;
+        return count("nome = ?1", Tag.normalizarNome(nome)) > 0;
     }
 
     /**
@@ -135,8 +157,9 @@ public class TagRepository implements PanacheRepository<Tag> {
      * @param nome nome da tag
      * @return true se existe, false caso contrário
      */
+    @ApenasAtivos
     public boolean existsByNomeAtiva(String nome) {
-        return count("LOWER(nome) = LOWER(?1) AND ativo = true", nome) > 0;
+        return count("nome = ?1", Tag.normalizarNome(nome)) > 0;
     }
 
     /**
@@ -147,7 +170,41 @@ public class TagRepository implements PanacheRepository<Tag> {
      * @return true se existe outra tag com o mesmo nome
      */
     public boolean existsOutraTagComNome(String nome, Long idExcluir) {
-        return count("LOWER(nome) = LOWER(?1) AND id != ?2", nome, idExcluir) > 0;
+        return count("nome = ?1 AND id != ?2", Tag.normalizarNome(nome), idExcluir) > 0;
+    }
+
+    /**
+     * Insere a tag caso ainda não exista outra com o mesmo nome e retorna o ID
+     * da tag gravada (a recém-inserida ou a já existente).
+     *
+     * Usa INSERT ... ON CONFLICT DO NOTHING (sem alvo, forma aceita pelo
+     * PostgreSQL e pelo H2): a única constraint que o INSERT pode violar é o
+     * índice único de tags.nome, então duas transações concorrentes não falham
+     * nela, a segunda apenas aguarda a primeira e reaproveita a linha.
+     *
+     * A linha nova não está em nenhum cache, por isso a consulta declara um
+     * espaço de sincronização vazio: sem ele o Hibernate esvaziaria o cache L2
+     * inteiro; com Tag.class, toda a região de tags.
+     *
+     * @param tag tag a ser inserida (nome já normalizado)
+     * @return ID da tag com o nome informado
+     */
+    public Long inserirSeAusente(Tag tag) {
+        getEntityManager().createNativeQuery("""
+                INSERT INTO tags (nome, cor, descricao, ativo, versao)
+                VALUES (?1, ?2, ?3, true, 0)
+                ON CONFLICT DO NOTHING
+                """)
+                .setParameter(1, tag.getNome())
+                .setParameter(2, tag.getCor())
+                .setParameter(3, tag.getDescricao())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("")
+                .executeUpdate();
+
+        return getEntityManager().createQuery("SELECT t.id FROM Tag t WHERE t.nome = :nome", Long.class)
+                .setParameter("nome", tag.getNome())
+                .getSingleResult();
     }
 
     /**
@@ -174,7 +231,54 @@ public class TagRepository implements PanacheRepository<Tag> {
      * @param cor cor em formato hexadecimal
      * @return lista de tags com a cor especificada
      */
+    @ApenasAtivos
     public List<Tag> findByCor(String cor) {
-        return find("cor = ?1 AND ativo = true ORDER BY nome", cor).list();
+        return find("cor = ?1 ORDER BY nome", cor).list();
+    }
+
+    // ========================================================================
+    // Projeções para Listagens
+    // ========================================================================
+
+    @ApenasAtivos
+    public List<TagResumoDTO> findAllAtivasResumo() {
+        return resumo(find("ORDER BY nome")).list();
+    }
+
+    public List<TagResumoDTO> findAllInativasResumo() {
+        return resumo(find("ativo = false ORDER BY nome")).list();
+    }
+
+    @ApenasAtivos
+    public List<TagResumoDTO> findByNomeParcialResumo(String termo) {
+        return resumo(find("nome LIKE ?1 ORDER BY nome",
+                           "%" + termo.toLowerCase().trim() + "%")).list();
+    }
+
+    @ApenasAtivos
+    public List<TagResumoDTO> findMaisUsadasResumo(int limite) {
+        return resumo(find("SIZE(itens) > 0 ORDER BY SIZE(itens) DESC"))
+                .page(0, limite)
+                .list();
+    }
+
+    @ApenasAtivos
+    public List<TagResumoDTO> findNaoUtilizadasResumo() {
+        return resumo(find("SIZE(itens) = 0 ORDER BY nome")).list();
+    }
+
+    @ApenasAtivos
+    public List<TagResumoDTO> findUtilizadasResumo() {
+        return resumo(find("SIZE(itens) > 0 ORDER BY nome")).list();
+    }
+
+    @ApenasAtivos
+    public List<TagResumoDTO> findByCorResumo(String cor) {
+        return resumo(find("cor = ?1 ORDER BY nome", cor)).list();
+    }
+
+    private PanacheQuery<TagResumoDTO> resumo(PanacheQuery<Tag> consulta) {
+        return consulta.project(TagResumoDTO.class)
+                .withHint(HibernateHints.HINT_READ_ONLY, true);
     }
 }
@@ -1,11 +1,16 @@
 package br.upf.ads175.critiquehub.repository;
 
+import br.upf.ads175.critiquehub.dto.CursorUsuarioDTO;
+import br.upf.ads175.critiquehub.dto.PaginaUsuariosDTO;
+import br.upf.ads175.critiquehub.dto.UsuarioResumoDTO;
 import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
 import br.upf.ads175.critiquehub.entity.model.Usuario;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,6 +28,22 @@ import java.util.Optional;
  * - Queries otimizadas e nomeadas
  * - Tratamento adequado de exceções
  * - API semântica e expressiva
+ *
+ * Email é gravado normalizado e comparado por igualdade (índice único de
+ * usuarios.email); nome de usuário é comparado via LOWER(nome_usuario),
+ * coberto pelo índice de expressão uk_usuarios_nome_usuario_lower.
+ *
+ * Telas de listagem devem usar os métodos "Resumo", que projetam apenas as
+ * colunas exibidas em {@link UsuarioResumoDTO} (sem a coleção EAGER de roles).
+ *
+ * As listagens ordenam por (dataRegistro, id) decrescente. A paginação por
+ * cursor ({@link CursorUsuarioDTO}) continua a partir do último usuário da página
+ * anterior, pelos índices compostos (data_registro, id): o custo não cresce com a
+ * profundidade e cadastros novos não deslocam as páginas seguintes.
+ *
+ * As listagens de ativos são anotadas com {@link ApenasAtivos}: o filtro gera o
+ * literal status = 'ATIVO' no SQL (um parâmetro impediria o uso do índice parcial
+ * da migração V1.4 em planos genéricos).
  */
 @ApplicationScoped // <1>
 public class UsuarioRepository {
@@ -104,7 +125,7 @@ public class UsuarioRepository {
     public Optional<Usuario> buscarPorEmail(String email) { // <8>
         try {
             Usuario usuario = entityManager.createNamedQuery("Usuario.buscarPorEmail", Usuario.class)
-                                          .setParameter("email", email.toLowerCase().trim())
+                                          .setParameter("email", Usuario.normalizarEmail(email))
                                           .getSingleResult();
             return Optional.of(usuario);
         } catch (NoResultException e) { // <9>
@@ -113,7 +134,9 @@ public class UsuarioRepository {
     }
 
     /**
-     * Busca usuário por nome de usuário (campo único).
+     * Busca usuário por nome de usuário (campo único, case insensitive).
+     * "Maria" e "maria" são o mesmo nome de usuário, tanto aqui quanto em
+     * {@link #existePorNomeUsuario(String)}; a grafia gravada é preservada.
      *
      * @param nomeUsuario nome de usuário
      * @return Optional contendo o usuário se encontrado
@@ -121,7 +144,7 @@ public class UsuarioRepository {
     public Optional<Usuario> buscarPorNomeUsuario(String nomeUsuario) {
         try {
             Usuario usuario = entityManager.createNamedQuery("Usuario.buscarPorNomeUsuario", Usuario.class)
-                                          .setParameter("nomeUsuario", nomeUsuario.trim())
+                                          .setParameter("nomeUsuario", Usuario.normalizarNomeUsuario(nomeUsuario))
                                           .getSingleResult();
             return Optional.of(usuario);
         } catch (NoResultException e) {
@@ -137,8 +160,8 @@ public class UsuarioRepository {
      */
     public boolean existePorEmail(String email) { // <10>
         Long count = entityManager.createQuery(
-                "SELECT COUNT(u) FROM Usuario u WHERE LOWER(u.email) = LOWER(:email)", Long.class)
-                .setParameter("email", email.trim())
+                "SELECT COUNT(u) FROM Usuario u WHERE u.email = :email", Long.class)
+                .setParameter("email", Usuario.normalizarEmail(email))
                 .getSingleResult();
         return count > 0;
     }
@@ -151,8 +174,8 @@ public class UsuarioRepository {
      */
     public boolean existePorNomeUsuario(String nomeUsuario) {
         Long count = entityManager.createQuery(
-                "SELECT COUNT(u) FROM Usuario u WHERE u.nomeUsuario = :nomeUsuario", Long.class)
-                .setParameter("nomeUsuario", nomeUsuario.trim())
+                "SELECT COUNT(u) FROM Usuario u WHERE LOWER(u.nomeUsuario) = :nomeUsuario", Long.class)
+                .setParameter("nomeUsuario", Usuario.normalizarNomeUsuario(nomeUsuario))
                 .getSingleResult();
         return count > 0;
     }
@@ -166,18 +189,21 @@ public class UsuarioRepository {
      *
      * @return lista de usuários ativos
      */
+    @ApenasAtivos
     public List<Usuario> listarAtivos() { // <11>
         return entityManager.createNamedQuery("Usuario.listarAtivos", Usuario.class)
                            .getResultList();
     }
 
     /**
-     * Lista usuários ativos com paginação.
+     * Lista usuários ativos com paginação por deslocamento.
+     * Para listagens longas prefira {@link #listarAtivosResumo(CursorUsuarioDTO, int)}.
      *
      * @param pagina número da página (base 0)
      * @param tamanhoPagina quantidade de registros por página
      * @return lista paginada de usuários ativos
      */
+    @ApenasAtivos
     public List<Usuario> listarAtivos(int pagina, int tamanhoPagina) { // <12>
         return entityManager.createNamedQuery("Usuario.listarAtivos", Usuario.class)
                            .setFirstResult(pagina * tamanhoPagina)
@@ -194,7 +220,8 @@ public class UsuarioRepository {
      */
     public List<Usuario> buscarPorPeriodoRegistro(LocalDate dataInicio, LocalDate dataFim) { // <13>
         return entityManager.createQuery(
-                "SELECT u FROM Usuario u WHERE u.dataRegistro BETWEEN :dataInicio AND :dataFim ORDER BY u.dataRegistro DESC",
+                "SELECT u FROM Usuario u WHERE u.dataRegistro BETWEEN :dataInicio AND :dataFim " +
+                ORDENACAO_REGISTRO,
                 Usuario.class)
                 .setParameter("dataInicio", dataInicio)
                 .setParameter("dataFim", dataFim)
@@ -203,6 +230,7 @@ public class UsuarioRepository {
 
     /**
      * Busca usuários por fragmento do nome (busca flexível).
+     * Faz varredura com LIKE; para busca ranqueada por similaridade use BuscaUsuariosService.
      *
      * @param fragmentoNome parte do nome a buscar
      * @param apenasAtivos se true, busca apenas usuários ativos
@@ -210,10 +238,17 @@ public class UsuarioRepository {
      * @return lista de usuários que correspondem à busca
      */
     public List<Usuario> buscarPorNome(String fragmentoNome, boolean apenasAtivos, int limite) { // <14>
-        String jpql = """
-                SELECT u FROM Usuario u
-                WHERE LOWER(u.nomeCompleto) LIKE LOWER(:fragmento)
-                   OR LOWER(u.nomeUsuario) LIKE LOWER(:fragmento)
+        return criarBuscaPorNome("SELECT u", Usuario.class, fragmentoNome, apenasAtivos)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    private <T> TypedQuery<T> criarBuscaPorNome(String selecao, Class<T> tipo, String fragmentoNome,
+                                               boolean apenasAtivos) {
+        String jpql = selecao + """
+                 FROM Usuario u
+                WHERE (LOWER(u.nomeCompleto) LIKE LOWER(:fragmento)
+                   OR LOWER(u.nomeUsuario) LIKE LOWER(:fragmento))
                 """;
 
         if (apenasAtivos) {
@@ -222,15 +257,151 @@ public class UsuarioRepository {
 
         jpql += " ORDER BY u.nomeCompleto";
 
-        var query = entityManager.createQuery(jpql, Usuario.class)
-                .setParameter("fragmento", "%" + fragmentoNome.trim() + "%")
-                .setMaxResults(limite);
+        TypedQuery<T> query = entityManager.createQuery(jpql, tipo)
+                .setParameter("fragmento", "%" + fragmentoNome.trim() + "%");
 
         if (apenasAtivos) {
             query.setParameter("status", StatusUsuario.ATIVO);
         }
 
-        return query.getResultList();
+        return query;
+    }
+
+    // ========================================================================
+    // Projeções para Listagens
+    // ========================================================================
+
+    static final String ORDENACAO_REGISTRO = "ORDER BY u.dataRegistro DESC, u.id DESC";
+
+    static final String SELECAO_RESUMO =
+            "SELECT new br.upf.ads175.critiquehub.dto.UsuarioResumoDTO(" +
+            "u.id, u.nomeUsuario, u.nomeCompleto, u.status, u.dataRegistro)";
+
+    /**
+     * Lista usuários ativos (projeção), mais recentes primeiro.
+     *
+     * @return resumos dos usuários ativos
+     */
+    @ApenasAtivos
+    public List<UsuarioResumoDTO> listarAtivosResumo() {
+        return criarListagemAtivosResumo().getResultList();
+    }
+
+    /**
+     * Lista usuários ativos (projeção) com paginação por deslocamento.
+     * Para listagens longas prefira {@link #listarAtivosResumo(CursorUsuarioDTO, int)}.
+     *
+     * @param pagina número da página (base 0)
+     * @param tamanhoPagina quantidade de registros por página
+     * @return resumos paginados dos usuários ativos
+     */
+    @ApenasAtivos
+    public List<UsuarioResumoDTO> listarAtivosResumo(int pagina, int tamanhoPagina) {
+        return criarListagemAtivosResumo()
+                .setFirstResult(pagina * tamanhoPagina)
+                .setMaxResults(tamanhoPagina)
+                .getResultList();
+    }
+
+    private TypedQuery<UsuarioResumoDTO> criarListagemAtivosResumo() {
+        return entityManager.createQuery(
+                SELECAO_RESUMO + " FROM Usuario u " + ORDENACAO_REGISTRO, UsuarioResumoDTO.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    /**
+     * Busca usuários registrados em um período (projeção).
+     *
+     * @param dataInicio data de início do período
+     * @param dataFim data de fim do período
+     * @return resumos dos usuários registrados no período
+     */
+    public List<UsuarioResumoDTO> buscarResumoPorPeriodoRegistro(LocalDate dataInicio, LocalDate dataFim) {
+        return entityManager.createQuery(
+                SELECAO_RESUMO + " FROM Usuario u WHERE u.dataRegistro BETWEEN :dataInicio AND :dataFim " +
+                ORDENACAO_REGISTRO, UsuarioResumoDTO.class)
+                .setParameter("dataInicio", dataInicio)
+                .setParameter("dataFim", dataFim)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    /**
+     * Lista usuários ativos (projeção) a partir de um cursor.
+     *
+     * @param apos cursor devolvido pela página anterior ({@code null} para a primeira página)
+     * @param tamanhoPagina quantidade de registros por página
+     * @return página de resumos e cursor da próxima
+     */
+    @ApenasAtivos
+    public PaginaUsuariosDTO listarAtivosResumo(CursorUsuarioDTO apos, int tamanhoPagina) {
+        TypedQuery<UsuarioResumoDTO> query = entityManager.createQuery(
+                SELECAO_RESUMO + " FROM Usuario u" +
+                (apos != null ? " WHERE " + CONDICAO_CURSOR : "") + " " + ORDENACAO_REGISTRO,
+                UsuarioResumoDTO.class);
+        return paginarPorCursor(query, apos, tamanhoPagina);
+    }
+
+    /**
+     * Busca usuários registrados em um período (projeção) a partir de um cursor.
+     *
+     * @param dataInicio data de início do período
+     * @param dataFim data de fim do período
+     * @param apos cursor devolvido pela página anterior ({@code null} para a primeira página)
+     * @param tamanhoPagina quantidade de registros por página
+     * @return página de resumos e cursor da próxima
+     */
+    public PaginaUsuariosDTO buscarResumoPorPeriodoRegistro(LocalDate dataInicio, LocalDate dataFim,
+                                                            CursorUsuarioDTO apos, int tamanhoPagina) {
+        TypedQuery<UsuarioResumoDTO> query = entityManager.createQuery(
+                SELECAO_RESUMO + " FROM Usuario u WHERE u.dataRegistro BETWEEN :dataInicio AND :dataFim" +
+                (apos != null ? " AND " + CONDICAO_CURSOR : "") + " " + ORDENACAO_REGISTRO,
+                UsuarioResumoDTO.class)
+                .setParameter("dataInicio", dataInicio)
+                .setParameter("dataFim", dataFim);
+        return paginarPorCursor(query, apos, tamanhoPagina);
+    }
+
+    /**
+     * Comparação de tupla: no PostgreSQL vira um único limite de varredura no índice (data_registro, id).
+     */
+    private static final String CONDICAO_CURSOR = "(u.dataRegistro, u.id) < (:cursorData, :cursorId)";
+
+    private PaginaUsuariosDTO paginarPorCursor(TypedQuery<UsuarioResumoDTO> query, CursorUsuarioDTO apos,
+                                               int tamanhoPagina) {
+        if (tamanhoPagina <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser positivo");
+        }
+        if (apos != null) {
+            query.setParameter("cursorData", apos.dataRegistro())
+                 .setParameter("cursorId", apos.id());
+        }
+
+        // Um registro a mais indica se existe próxima página, sem COUNT
+        List<UsuarioResumoDTO> usuarios = query
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(tamanhoPagina + 1)
+                .getResultList();
+        if (usuarios.size() <= tamanhoPagina) {
+            return new PaginaUsuariosDTO(usuarios, null);
+        }
+        List<UsuarioResumoDTO> pagina = usuarios.subList(0, tamanhoPagina);
+        return new PaginaUsuariosDTO(List.copyOf(pagina), CursorUsuarioDTO.apos(pagina.get(tamanhoPagina - 1)));
+    }
+
+    /**
+     * Busca usuários por fragmento do nome (projeção).
+     *
+     * @param fragmentoNome parte do nome a buscar
+     * @param apenasAtivos se true, busca apenas usuários ativos
+     * @param limite quantidade máxima de resultados
+     * @return resumos dos usuários que correspondem à busca
+     */
+    public List<UsuarioResumoDTO> buscarResumoPorNome(String fragmentoNome, boolean apenasAtivos, int limite) {
+        return criarBuscaPorNome(SELECAO_RESUMO, UsuarioResumoDTO.class, fragmentoNome, apenasAtivos)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(limite)
+                .getResultList();
     }
 
     // ========================================================================
@@ -0,0 +1,273 @@
+package br.upf.ads175.critiquehub.security;
+
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+import br.upf.ads175.critiquehub.entity.model.CredencialAlterada;
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import br.upf.ads175.critiquehub.event.CredenciaisUsuarioAlteradas;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cache das credenciais usadas na autenticação, por nome de usuário.
+ *
+ * Guarda hash da senha, status e roles, evitando recarregar o usuário e fazer
+ * JOIN em usuarios_roles a cada requisição autenticada. Depois da primeira
+ * verificação bcrypt bem-sucedida, guarda também um HMAC da senha (chave
+ * aleatória, só em memória), de modo que as requisições seguintes comparam o
+ * HMAC em vez de repetir o bcrypt.
+ *
+ * As entradas expiram após um TTL curto e são invalidadas assim que uma
+ * alteração de status, roles ou remoção é confirmada
+ * ({@link CredenciaisUsuarioAlteradas}). Como o cache é local, a alteração é
+ * gravada também em {@code credenciais_alteradas}, que todas as instâncias releem
+ * a cada critiquehub.autenticacao.intervalo-invalidacao: nas demais instâncias,
+ * um usuário suspenso perde o acesso em até um intervalo, e não em até um TTL.
+ */
+@ApplicationScoped
+public class AutenticacaoCache {
+
+    private static final String ALGORITMO_HMAC = "HmacSHA256";
+
+    /**
+     * Por quanto tempo uma alteração fica na tabela; maior que o TTL do cache, de
+     * modo que nenhuma entrada carregada antes dela sobreviva ao descarte da linha.
+     */
+    private static final Duration RETENCAO_ALTERACOES = Duration.ofMinutes(5);
+
+    private static final String MERGE_ALTERACAO = """
+            MERGE INTO credenciais_alteradas c
+            USING (VALUES (CAST(:nomeUsuario AS VARCHAR(30)), CAST(:alteradoEm AS TIMESTAMP WITH TIME ZONE)))
+                  AS a (nome_usuario, alterado_em)
+               ON c.nome_usuario = a.nome_usuario
+             WHEN MATCHED THEN
+                  UPDATE SET alterado_em = a.alterado_em
+             WHEN NOT MATCHED THEN
+                  INSERT (nome_usuario, alterado_em) VALUES (a.nome_usuario, a.alterado_em)
+            """;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    @CacheName("autenticacao")
+    Cache cache;
+
+    @Inject
+    ProcessadorSenhas processadorSenhas;
+
+    private final SecretKey chaveHmac = gerarChave();
+
+    /**
+     * Última alteração já aplicada por nome de usuário, para invalidar cada uma só uma vez.
+     */
+    private final ConcurrentHashMap<String, Instant> alteracoesAplicadas = new ConcurrentHashMap<>();
+
+    /**
+     * Credenciais de um usuário como estavam no momento da carga.
+     * {@code carregadasEm} é anterior à leitura no banco: uma revogação registrada
+     * a partir desse instante pode não estar refletida no status.
+     */
+    public record Credenciais(Long usuarioId, String nomeUsuario, String hashSenha, StatusUsuario status,
+                              Set<String> roles, Instant carregadasEm, AtomicReference<byte[]> senhaVerificada) {
+
+        public boolean isAtivo() {
+            return status == StatusUsuario.ATIVO;
+        }
+    }
+
+    /**
+     * Busca as credenciais no cache. Na ausência, a carga do banco roda em uma
+     * thread de trabalho; um acerto no cache não bloqueia nenhuma thread.
+     * Usuários inexistentes também ficam em cache até o TTL ou até serem criados;
+     * para autenticar use {@link #autenticar(String, String)}, que não revela a ausência pelo tempo.
+     */
+    public Uni<Optional<Credenciais>> buscar(String nomeUsuario) {
+        String chave = Usuario.normalizarNomeUsuario(nomeUsuario);
+        if (chave == null || chave.isEmpty()) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+        return cache.<String, Optional<Credenciais>>getAsync(chave, nome -> Uni.createFrom()
+                .item(() -> carregar(nome))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool()));
+    }
+
+    /**
+     * Autentica nome de usuário e senha, devolvendo as credenciais de um usuário ativo cuja senha confere.
+     *
+     * Toda tentativa que falha custa um bcrypt, inclusive para usuário
+     * inexistente, inativo ou sem senha definida (contra um hash fictício): o
+     * tempo de resposta não revela quais nomes de usuário existem. Só a senha
+     * correta de um usuário já verificado segue pelo caminho rápido do HMAC.
+     *
+     * Falha com {@link br.upf.ads175.critiquehub.exception.ServicoSobrecarregadoException}
+     * se o bcrypt for necessário e o {@link ProcessadorSenhas} estiver saturado.
+     */
+    public Uni<Optional<Credenciais>> autenticar(String nomeUsuario, String senha) {
+        return buscar(nomeUsuario).onItem().transformToUni(encontradas -> {
+            Optional<Credenciais> credenciais = encontradas
+                    .filter(Credenciais::isAtivo)
+                    .filter(candidatas -> isHashBcrypt(candidatas.hashSenha()));
+            if (credenciais.isEmpty() || senha == null) {
+                return Uni.createFrom()
+                        .completionStage(processadorSenhas.verificarFicticio(senha != null ? senha : ""))
+                        .replaceWith(Optional.<Credenciais>empty());
+            }
+            return Uni.createFrom().completionStage(senhaConfere(credenciais.get(), senha))
+                    .map(confere -> confere ? credenciais : Optional.<Credenciais>empty());
+        });
+    }
+
+    /**
+     * Confere a senha informada contra as credenciais.
+     *
+     * @return resultado da conferência; falha com
+     *         {@link br.upf.ads175.critiquehub.exception.ServicoSobrecarregadoException}
+     *         se o bcrypt for necessário e o {@link ProcessadorSenhas} estiver saturado
+     */
+    public CompletionStage<Boolean> senhaConfere(Credenciais credenciais, String senha) {
+        if (!isHashBcrypt(credenciais.hashSenha()) || senha == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        byte[] assinatura = assinar(senha);
+        byte[] verificada = credenciais.senhaVerificada().get();
+        if (verificada != null && MessageDigest.isEqual(verificada, assinatura)) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        // Senha errada também paga o bcrypt, como em um usuário inexistente
+        return processadorSenhas.verificar(senha, credenciais.hashSenha()).thenApply(confere -> {
+            if (confere) {
+                credenciais.senhaVerificada().set(assinatura);
+            }
+            return confere;
+        });
+    }
+
+    /**
+     * Senhas ainda não definidas (ex.: usuários provisionados em lote) ficam com
+     * um valor que não é hash bcrypt e nunca conferem.
+     */
+    private static boolean isHashBcrypt(String hash) {
+        return hash != null && hash.startsWith("$2");
+    }
+
+    void aoAlterarCredenciais(@Observes(during = TransactionPhase.AFTER_SUCCESS) CredenciaisUsuarioAlteradas evento) {
+        invalidar(evento.nomeUsuario());
+
+        String chave = Usuario.normalizarNomeUsuario(evento.nomeUsuario());
+        if (chave != null) {
+            Instant agora = Instant.now();
+            alteracoesAplicadas.put(chave, agora);
+            QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery(MERGE_ALTERACAO)
+                    .setParameter("nomeUsuario", chave)
+                    .setParameter("alteradoEm", agora)
+                    .executeUpdate());
+        }
+    }
+
+    @Scheduled(every = "${critiquehub.autenticacao.intervalo-invalidacao:5s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void sincronizarPeriodicamente() {
+        sincronizarInvalidacoes();
+    }
+
+    /**
+     * Invalida as credenciais alteradas em qualquer instância desde a última leitura
+     * e descarta as linhas que já não podem afetar nenhuma entrada em cache.
+     */
+    @Transactional
+    public void sincronizarInvalidacoes() {
+        Instant limite = Instant.now().minus(RETENCAO_ALTERACOES);
+        for (CredencialAlterada alteracao : entityManager.createQuery(
+                "SELECT c FROM CredencialAlterada c WHERE c.alteradoEm >= :limite", CredencialAlterada.class)
+                .setParameter("limite", limite)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()) {
+            Instant aplicada = alteracoesAplicadas.get(alteracao.getNomeUsuario());
+            if (aplicada == null || aplicada.isBefore(alteracao.getAlteradoEm())) {
+                invalidar(alteracao.getNomeUsuario());
+                alteracoesAplicadas.put(alteracao.getNomeUsuario(), alteracao.getAlteradoEm());
+            }
+        }
+        alteracoesAplicadas.values().removeIf(alteradoEm -> alteradoEm.isBefore(limite));
+
+        entityManager.createQuery("DELETE FROM CredencialAlterada c WHERE c.alteradoEm < :limite")
+                .setParameter("limite", limite)
+                .executeUpdate();
+    }
+
+    public void invalidar(String nomeUsuario) {
+        String chave = Usuario.normalizarNomeUsuario(nomeUsuario);
+        if (chave != null) {
+            cache.invalidate(chave).await().indefinitely();
+        }
+    }
+
+    private Optional<Credenciais> carregar(String nomeUsuario) {
+        Instant carregadasEm = Instant.now();
+        return QuarkusTransaction.joiningExisting().call(() -> {
+            List<Object[]> linhas = entityManager.createQuery(
+                    "SELECT u.id, u.nomeUsuario, u.senha, u.status FROM Usuario u " +
+                    "WHERE LOWER(u.nomeUsuario) = :nomeUsuario", Object[].class)
+                    .setParameter("nomeUsuario", nomeUsuario)
+                    .getResultList();
+            if (linhas.isEmpty()) {
+                return Optional.empty();
+            }
+
+            Object[] linha = linhas.get(0);
+            Set<String> roles = Set.copyOf(entityManager.createQuery(
+                    "SELECT r FROM Usuario u JOIN u.roles r WHERE u.id = :id", String.class)
+                    .setParameter("id", linha[0])
+                    .getResultList());
+            return Optional.of(new Credenciais((Long) linha[0], (String) linha[1], (String) linha[2],
+                    (StatusUsuario) linha[3], roles, carregadasEm, new AtomicReference<>()));
+        });
+    }
+
+    private byte[] assinar(String senha) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_HMAC);
+            mac.init(chaveHmac);
+            return mac.doFinal(senha.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+
+    private static SecretKey gerarChave() {
+        try {
+            return KeyGenerator.getInstance(ALGORITMO_HMAC).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package br.upf.ads175.critiquehub.security;
+
+import br.upf.ads175.critiquehub.exception.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.elytron.security.common.BcryptUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Geração e verificação de hashes bcrypt em um executor dedicado e limitado.
+ *
+ * O bcrypt é propositalmente caro em CPU; rodá-lo nas threads de requisição
+ * deixaria uma rajada de logins sem CPU para o resto da aplicação. Aqui o
+ * trabalho fica restrito a poucas threads com fila limitada: com a fila cheia,
+ * ou se a espera passar do tempo máximo, a operação é recusada imediatamente
+ * com {@link ServicoSobrecarregadoException}.
+ *
+ * As operações devolvem {@link CompletionStage}: quem chama não ocupa uma
+ * thread esperando o bcrypt.
+ *
+ * Métricas (Micrometer):
+ * <ul>
+ *   <li>{@code critiquehub.senhas.duracao} (operacao=verificar|gerar): latência total, incluindo a fila</li>
+ *   <li>{@code critiquehub.senhas.fila}: tarefas aguardando</li>
+ *   <li>{@code critiquehub.senhas.recusadas}: operações recusadas por sobrecarga</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class ProcessadorSenhas {
+
+    @ConfigProperty(name = "critiquehub.senhas.threads", defaultValue = "2")
+    int threads;
+
+    @ConfigProperty(name = "critiquehub.senhas.capacidade-fila", defaultValue = "64")
+    int capacidadeFila;
+
+    @ConfigProperty(name = "critiquehub.senhas.tempo-maximo", defaultValue = "5s")
+    Duration tempoMaximo;
+
+    @ConfigProperty(name = "critiquehub.senhas.custo-bcrypt", defaultValue = "10")
+    int custoBcrypt;
+
+    @Inject
+    MeterRegistry registry;
+
+    private ThreadPoolExecutor executor;
+    private String hashFicticio;
+    private Timer duracaoVerificacao;
+    private Timer duracaoGeracao;
+    private Counter recusadas;
+
+    @PostConstruct
+    void iniciar() {
+        AtomicInteger sequencia = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "senhas-" + sequencia.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        duracaoVerificacao = Timer.builder("critiquehub.senhas.duracao").tag("operacao", "verificar")
+                .publishPercentiles(0.5, 0.95, 0.99).register(registry);
+        duracaoGeracao = Timer.builder("critiquehub.senhas.duracao").tag("operacao", "gerar")
+                .publishPercentiles(0.5, 0.95, 0.99).register(registry);
+        recusadas = Counter.builder("critiquehub.senhas.recusadas").register(registry);
+        Gauge.builder("critiquehub.senhas.fila", executor, pool -> pool.getQueue().size()).register(registry);
+
+        hashFicticio = BcryptUtil.bcryptHash(UUID.randomUUID().toString(), custoBcrypt);
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifica a senha contra um hash bcrypt (formato Modular Crypt).
+     *
+     * @return resultado da verificação; falha com {@link ServicoSobrecarregadoException}
+     *         se o executor estiver saturado
+     */
+    public CompletionStage<Boolean> verificar(String senha, String hash) {
+        return executar(duracaoVerificacao, () -> BcryptUtil.matches(senha, hash));
+    }
+
+    /**
+     * Faz uma verificação contra um hash fictício com o custo configurado, para
+     * que falhas sem hash real (ex.: usuário inexistente) levem o mesmo tempo.
+     *
+     * @return sempre {@code false}; falha com {@link ServicoSobrecarregadoException}
+     *         se o executor estiver saturado
+     */
+    public CompletionStage<Boolean> verificarFicticio(String senha) {
+        return verificar(senha, hashFicticio).thenApply(confere -> false);
+    }
+
+    /**
+     * Gera o hash bcrypt da senha com o custo configurado.
+     *
+     * @return hash gerado; falha com {@link ServicoSobrecarregadoException}
+     *         se o executor estiver saturado
+     */
+    public CompletionStage<String> gerarHash(String senha) {
+        return executar(duracaoGeracao, () -> BcryptUtil.bcryptHash(senha, custoBcrypt));
+    }
+
+    /**
+     * Versão bloqueante de {@link #gerarHash(String)} para código que já roda
+     * em thread de trabalho (ex.: serviços transacionais). A espera é limitada
+     * pelo tempo máximo configurado.
+     *
+     * @throws ServicoSobrecarregadoException se o executor estiver saturado
+     */
+    public String gerarHashAguardando(String senha) {
+        try {
+            return gerarHash(senha).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException causa ? causa : e;
+        }
+    }
+
+    /**
+     * Agenda a tarefa no executor sem bloquear quem chama.
+     *
+     * O tempo máximo vale desde o agendamento: ao expirar, o resultado falha e,
+     * se a tarefa ainda estiver na fila, ela é descartada sem rodar o bcrypt.
+     * Um bcrypt já em execução não pode ser interrompido; ele termina e o
+     * resultado é ignorado, o que é limitado pelo número de threads.
+     */
+    private <T> CompletionStage<T> executar(Timer duracao, Supplier<T> tarefa) {
+        Timer.Sample amostra = Timer.start(registry);
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                if (resultado.isDone()) {
+                    return;
+                }
+                try {
+                    resultado.complete(tarefa.get());
+                } catch (RuntimeException e) {
+                    resultado.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            amostra.stop(duracao);
+            recusadas.increment();
+            return CompletableFuture.failedFuture(
+                    new ServicoSobrecarregadoException("Fila de processamento de senhas cheia", e));
+        }
+
+        return resultado
+                .orTimeout(tempoMaximo.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((valor, erro) -> amostra.stop(duracao))
+                .exceptionally(erro -> {
+                    throw traduzir(erro instanceof CompletionException ? erro.getCause() : erro);
+                });
+    }
+
+    private RuntimeException traduzir(Throwable erro) {
+        if (erro instanceof TimeoutException) {
+            recusadas.increment();
+            return new ServicoSobrecarregadoException("Tempo de espera para processar senha esgotado", erro);
+        }
+        if (erro instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("Falha ao processar senha", erro);
+    }
+}
@@ -0,0 +1,48 @@
+package br.upf.ads175.critiquehub.security;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.vertx.http.runtime.security.ChallengeData;
+import io.quarkus.vertx.http.runtime.security.HttpAuthenticationMechanism;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.Set;
+
+/**
+ * Lê o token de sessão do cabeçalho {@code Authorization: Bearer ...}.
+ *
+ * Requisições sem o cabeçalho seguem anônimas (ou para outro mecanismo, como o Basic).
+ */
+@ApplicationScoped
+public class TokenAuthenticationMechanism implements HttpAuthenticationMechanism {
+
+    private static final String PREFIXO = "Bearer ";
+    private static final String TIPO_TOKEN = "sessao";
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(RoutingContext contexto, IdentityProviderManager identityProviderManager) {
+        String cabecalho = contexto.request().getHeader(HttpHeaderNames.AUTHORIZATION);
+        if (cabecalho == null || !cabecalho.regionMatches(true, 0, PREFIXO, 0, PREFIXO.length())) {
+            return Uni.createFrom().nullItem();
+        }
+        String token = cabecalho.substring(PREFIXO.length()).trim();
+        return identityProviderManager.authenticate(
+                new TokenAuthenticationRequest(new TokenCredential(token, TIPO_TOKEN)));
+    }
+
+    @Override
+    public Uni<ChallengeData> getChallenge(RoutingContext contexto) {
+        return Uni.createFrom().item(new ChallengeData(401, HttpHeaderNames.WWW_AUTHENTICATE, "Bearer"));
+    }
+
+    @Override
+    public Set<Class<? extends AuthenticationRequest>> getCredentialTypes() {
+        return Set.of(TokenAuthenticationRequest.class);
+    }
+}
@@ -0,0 +1,45 @@
+package br.upf.ads175.critiquehub.security;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Autenticação por token de sessão ({@link TokenSessaoService}).
+ *
+ * A validação é local (HMAC e lista de revogação em memória), então roda
+ * direto no event loop, sem {@code runBlocking} e sem acesso ao banco.
+ */
+@ApplicationScoped
+public class TokenIdentityProvider implements IdentityProvider<TokenAuthenticationRequest> {
+
+    public static final String ATRIBUTO_USUARIO_ID = "usuarioId";
+
+    @Inject
+    TokenSessaoService tokenSessaoService;
+
+    @Override
+    public Class<TokenAuthenticationRequest> getRequestType() {
+        return TokenAuthenticationRequest.class;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(TokenAuthenticationRequest request,
+                                              AuthenticationRequestContext context) {
+        return tokenSessaoService.validar(request.getToken().getToken())
+                .<Uni<SecurityIdentity>>map(token -> Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                        .setPrincipal(new QuarkusPrincipal(token.nomeUsuario()))
+                        .addRoles(token.roles())
+                        .addAttribute(ATRIBUTO_USUARIO_ID, token.usuarioId())
+                        .addCredential(request.getToken())
+                        .build()))
+                .orElseGet(() -> Uni.createFrom().failure(new AuthenticationFailedException()));
+    }
+}
@@ -0,0 +1,282 @@
+package br.upf.ads175.critiquehub.security;
+
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+import br.upf.ads175.critiquehub.entity.model.TokenRevogado;
+import br.upf.ads175.critiquehub.event.StatusUsuarioAlterado;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.security.AuthenticationFailedException;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+import org.jboss.logging.Logger;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emissão e validação de tokens de sessão assinados (HMAC-SHA256).
+ *
+ * O token carrega ID, nome de usuário, roles e validade, então as requisições
+ * autenticadas por token não consultam {@code usuarios} nem {@code usuarios_roles}.
+ * A única consulta feita na validação é à lista de revogação em memória, que só
+ * recebe entradas quando um usuário passa a SUSPENSO ou INATIVO (ou é removido).
+ * Cada entrada vive apenas pela validade de um token: depois disso, todo token
+ * com credenciais lidas antes da revogação já expirou por conta própria.
+ *
+ * As revogações também são gravadas em {@code tokens_revogados}, carregadas na
+ * inicialização e relidas periodicamente, para valerem após reinícios e nas
+ * demais instâncias (nestas, com atraso de até um intervalo de releitura).
+ *
+ * Mudanças de roles passam a valer no próximo login ou quando o token expira.
+ *
+ * O token guarda também quando as credenciais que o originaram foram lidas do
+ * banco ({@code credenciaisEm}); a revogação compara com esse instante, não com a
+ * emissão. Assim, um login atendido por credenciais em cache anteriores à
+ * revogação (nesta instância, antes da invalidação, ou em outra, antes da
+ * releitura) gera um token que passa a ser recusado assim que a revogação é conhecida.
+ *
+ * Formato: {@code base64url(conteudo).base64url(assinatura)}, com o conteúdo em
+ * linhas {@code versao, id, nomeUsuario, emitidoEm, expiraEm, credenciaisEm, roles}.
+ */
+@ApplicationScoped
+public class TokenSessaoService {
+
+    private static final Logger LOG = Logger.getLogger(TokenSessaoService.class);
+
+    private static final String ALGORITMO_HMAC = "HmacSHA256";
+    private static final String VERSAO = "2";
+    private static final Base64.Encoder CODIFICADOR = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODIFICADOR = Base64.getUrlDecoder();
+
+    private static final String MERGE_REVOGACAO = """
+            MERGE INTO tokens_revogados t
+            USING (VALUES (CAST(:usuarioId AS BIGINT), CAST(:revogadoEm AS TIMESTAMP WITH TIME ZONE)))
+                  AS r (usuario_id, revogado_em)
+               ON t.usuario_id = r.usuario_id
+             WHEN MATCHED THEN
+                  UPDATE SET revogado_em = r.revogado_em
+             WHEN NOT MATCHED THEN
+                  INSERT (usuario_id, revogado_em) VALUES (r.usuario_id, r.revogado_em)
+            """;
+
+    /**
+     * Chave em Base64. Deve ser a mesma em todas as instâncias; sem ela, uma
+     * chave aleatória é gerada e os tokens deixam de valer a cada reinício.
+     */
+    @ConfigProperty(name = "critiquehub.token.chave")
+    Optional<String> chaveConfigurada;
+
+    @ConfigProperty(name = "critiquehub.token.validade", defaultValue = "15M")
+    Duration validade;
+
+    @Inject
+    AutenticacaoCache autenticacaoCache;
+
+    @Inject
+    EntityManager entityManager;
+
+    private SecretKey chave;
+
+    /**
+     * Instante da revogação por ID de usuário; tokens com credenciais lidas até esse instante são recusados.
+     */
+    private final ConcurrentHashMap<Long, Instant> revogados = new ConcurrentHashMap<>();
+
+    /**
+     * Dados de um token válido.
+     */
+    public record TokenSessao(Long usuarioId, String nomeUsuario, Set<String> roles,
+                              Instant emitidoEm, Instant expiraEm) {
+    }
+
+    @PostConstruct
+    void iniciar() {
+        chave = chaveConfigurada
+                .map(base64 -> (SecretKey) new SecretKeySpec(Base64.getDecoder().decode(base64), ALGORITMO_HMAC))
+                .orElseGet(() -> {
+                    LOG.warn("critiquehub.token.chave não configurada; tokens de sessão valem apenas até o reinício");
+                    return gerarChave();
+                });
+    }
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        carregarRevogacoes();
+    }
+
+    @Scheduled(every = "${critiquehub.token.intervalo-revogacoes:30s}", delayed = "30s",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void recarregarRevogacoes() {
+        carregarRevogacoes();
+    }
+
+    /**
+     * Lê as revogações ainda relevantes gravadas por qualquer instância e descarta
+     * as que já não podem recusar nenhum token.
+     */
+    @Transactional
+    public void carregarRevogacoes() {
+        Instant limite = Instant.now().minus(validade);
+        entityManager.createQuery("SELECT t FROM TokenRevogado t WHERE t.revogadoEm >= :limite", TokenRevogado.class)
+                .setParameter("limite", limite)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()
+                .forEach(revogacao -> revogados.merge(revogacao.getUsuarioId(), revogacao.getRevogadoEm(),
+                        (atual, lida) -> atual.isAfter(lida) ? atual : lida));
+        revogados.values().removeIf(revogadoEm -> revogadoEm.isBefore(limite));
+
+        entityManager.createQuery("DELETE FROM TokenRevogado t WHERE t.revogadoEm < :limite")
+                .setParameter("limite", limite)
+                .executeUpdate();
+    }
+
+    /**
+     * Confere nome de usuário e senha e emite um token com as roles atuais.
+     *
+     * @return token emitido; falha com {@link AuthenticationFailedException} se as
+     *         credenciais forem inválidas, o usuário não estiver ativo ou tiver sido
+     *         revogado depois da carga das credenciais
+     */
+    public Uni<String> login(String nomeUsuario, String senha) {
+        return autenticacaoCache.autenticar(nomeUsuario, senha).map(encontradas -> {
+            AutenticacaoCache.Credenciais credenciais = encontradas
+                    .filter(candidatas -> !revogadoDesde(candidatas.usuarioId(), candidatas.carregadasEm()))
+                    .orElseThrow(AuthenticationFailedException::new);
+            return emitir(credenciais.usuarioId(), credenciais.nomeUsuario(), credenciais.roles(),
+                    credenciais.carregadasEm());
+        });
+    }
+
+    /**
+     * A validade conta a partir da leitura das credenciais, não da emissão: nenhum
+     * token sobrevive a {@code credenciaisEm + validade}, então manter cada
+     * revogação pela validade basta para recusar todos os tokens afetados.
+     *
+     * @param credenciaisEm quando os dados do usuário foram lidos do banco
+     */
+    public String emitir(Long usuarioId, String nomeUsuario, Set<String> roles, Instant credenciaisEm) {
+        Instant agora = Instant.now();
+        String conteudo = String.join("\n", VERSAO, usuarioId.toString(), nomeUsuario,
+                Long.toString(agora.toEpochMilli()), Long.toString(credenciaisEm.plus(validade).toEpochMilli()),
+                Long.toString(credenciaisEm.toEpochMilli()), String.join(",", new TreeSet<>(roles)));
+        byte[] bytes = conteudo.getBytes(StandardCharsets.UTF_8);
+        return CODIFICADOR.encodeToString(bytes) + "." + CODIFICADOR.encodeToString(assinar(bytes));
+    }
+
+    /**
+     * Valida assinatura, validade e revogação, sem acessar o banco.
+     *
+     * @return dados do token, ou empty se for inválido, expirado ou revogado
+     */
+    public Optional<TokenSessao> validar(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int separador = token.indexOf('.');
+        if (separador <= 0 || separador != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+
+        byte[] conteudo;
+        byte[] assinatura;
+        try {
+            conteudo = DECODIFICADOR.decode(token.substring(0, separador));
+            assinatura = DECODIFICADOR.decode(token.substring(separador + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(assinar(conteudo), assinatura)) {
+            return Optional.empty();
+        }
+
+        String[] campos = new String(conteudo, StandardCharsets.UTF_8).split("\n", -1);
+        if (campos.length != 7 || !VERSAO.equals(campos[0])) {
+            return Optional.empty();
+        }
+        Long usuarioId = Long.valueOf(campos[1]);
+        Instant emitidoEm = Instant.ofEpochMilli(Long.parseLong(campos[3]));
+        Instant expiraEm = Instant.ofEpochMilli(Long.parseLong(campos[4]));
+        if (!Instant.now().isBefore(expiraEm)) {
+            return Optional.empty();
+        }
+
+        if (revogadoDesde(usuarioId, Instant.ofEpochMilli(Long.parseLong(campos[5])))) {
+            return Optional.empty();
+        }
+
+        Set<String> roles = campos[6].isEmpty() ? Set.of() : Set.of(campos[6].split(","));
+        return Optional.of(new TokenSessao(usuarioId, campos[2], roles, emitidoEm, expiraEm));
+    }
+
+    void aoAlterarStatus(@Observes(during = TransactionPhase.AFTER_SUCCESS) StatusUsuarioAlterado evento) {
+        StatusUsuario atual = evento.statusAtual();
+        if (evento.statusAnterior() != null
+                && (atual == null || atual == StatusUsuario.SUSPENSO || atual == StatusUsuario.INATIVO)) {
+            revogar(evento.usuarioId());
+        }
+    }
+
+    /**
+     * Invalida todos os tokens já emitidos para o usuário, nesta e nas demais instâncias.
+     * Chamado após a confirmação da mudança de status, então o instante gravado é
+     * posterior a qualquer login que ainda tenha visto o usuário ativo.
+     */
+    public void revogar(Long usuarioId) {
+        Instant agora = Instant.now();
+        revogados.put(usuarioId, agora);
+
+        Instant limite = agora.minus(validade);
+        revogados.values().removeIf(revogadoEm -> revogadoEm.isBefore(limite));
+
+        QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery(MERGE_REVOGACAO)
+                .setParameter("usuarioId", usuarioId)
+                .setParameter("revogadoEm", agora)
+                .executeUpdate());
+    }
+
+    /**
+     * Se o usuário foi revogado no instante informado ou depois dele.
+     */
+    private boolean revogadoDesde(Long usuarioId, Instant instante) {
+        Instant revogadoEm = revogados.get(usuarioId);
+        return revogadoEm != null && !instante.isAfter(revogadoEm);
+    }
+
+    private byte[] assinar(byte[] conteudo) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_HMAC);
+            mac.init(chave);
+            return mac.doFinal(conteudo);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+
+    private static SecretKey gerarChave() {
+        try {
+            return KeyGenerator.getInstance(ALGORITMO_HMAC).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package br.upf.ads175.critiquehub.security;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.identity.AuthenticationRequestContext;
+import io.quarkus.security.identity.IdentityProvider;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Autenticação por nome de usuário e senha apoiada no {@link AutenticacaoCache}.
+ *
+ * Usuários com status diferente de ATIVO são recusados; como o cache é
+ * invalidado ao confirmar a mudança de status, a suspensão vale já na
+ * próxima requisição.
+ */
+@ApplicationScoped
+public class UsuarioIdentityProvider implements IdentityProvider<UsernamePasswordAuthenticationRequest> {
+
+    @Inject
+    AutenticacaoCache autenticacaoCache;
+
+    @Override
+    public Class<UsernamePasswordAuthenticationRequest> getRequestType() {
+        return UsernamePasswordAuthenticationRequest.class;
+    }
+
+    @Override
+    public Uni<SecurityIdentity> authenticate(UsernamePasswordAuthenticationRequest request,
+                                              AuthenticationRequestContext context) {
+        // Sem runBlocking: a carga das credenciais (só na ausência no cache) e o
+        // bcrypt rodam em outras threads, e nenhuma fica parada esperando o resultado
+        String senha = new String(request.getPassword().getPassword());
+        return autenticacaoCache.autenticar(request.getUsername(), senha)
+                .map(encontradas -> {
+                    AutenticacaoCache.Credenciais credenciais = encontradas
+                            .orElseThrow(AuthenticationFailedException::new);
+                    return QuarkusSecurityIdentity.builder()
+                            .setPrincipal(new QuarkusPrincipal(credenciais.nomeUsuario()))
+                            .addRoles(credenciais.roles())
+                            .addCredential(request.getPassword())
+                            .build();
+                });
+    }
+}
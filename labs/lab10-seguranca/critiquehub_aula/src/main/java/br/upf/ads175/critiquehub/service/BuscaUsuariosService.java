@@ -0,0 +1,291 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.UsuarioEncontradoDTO;
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+import br.upf.ads175.critiquehub.event.UsuarioAlterado;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.jboss.logging.Logger;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Busca de usuários por nome completo e nome de usuário via índice de trigramas.
+ *
+ * Cada usuário é decomposto em trigramas (minúsculas, sem acentos, palavras com
+ * espaços nas bordas, como no pg_trgm) e cada trigrama aponta para um
+ * RoaringBitmap com os usuários que o contêm. Uma busca conta, por usuário,
+ * quantos trigramas da consulta aparecem e ranqueia pela fração encontrada,
+ * sem varrer a tabela com LIKE '%...%'.
+ *
+ * O índice é reconstruído na inicialização e mantido por {@link UsuarioAlterado}.
+ */
+@ApplicationScoped
+public class BuscaUsuariosService {
+
+    private static final Logger LOG = Logger.getLogger(BuscaUsuariosService.class);
+
+    /**
+     * Fração mínima dos trigramas da consulta que o usuário deve conter.
+     */
+    public static final double SIMILARIDADE_MINIMA = 0.5;
+
+    @Inject
+    EntityManager entityManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Indice indice = new Indice();
+
+    /**
+     * Garante uma reconstrução por vez.
+     */
+    private final Object reconstrucao = new Object();
+
+    /**
+     * Eventos recebidos durante uma reconstrução, na ordem de chegada; {@code null}
+     * fora dela. Protegida pelo lock de escrita.
+     */
+    private List<UsuarioAlterado> alteracoesDuranteReconstrucao;
+
+    private record Documento(Long usuarioId, String nomeUsuario, String nomeCompleto, long[] trigramas) {
+    }
+
+    // ========================================================================
+    // Construção e Manutenção
+    // ========================================================================
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reconstruir();
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco e substitui o atual.
+     *
+     * A leitura do banco acontece fora do lock, com as buscas usando o índice
+     * anterior; alterações recebidas nesse meio-tempo são reaplicadas, na ordem de
+     * chegada, sobre o índice novo antes da troca.
+     */
+    @Transactional
+    public void reconstruir() {
+        synchronized (reconstrucao) {
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteReconstrucao = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Indice novo = new Indice();
+            entityManager.createQuery(
+                    "SELECT u.id, u.nomeUsuario, u.nomeCompleto, u.status FROM Usuario u", Object[].class)
+                    .getResultStream()
+                    .forEach(linha -> novo.indexar((Long) linha[0], (String) linha[1], (String) linha[2],
+                            (StatusUsuario) linha[3]));
+            novo.usuariosPorTrigrama.values().forEach(RoaringBitmap::runOptimize);
+
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteReconstrucao.forEach(novo::aplicar);
+                alteracoesDuranteReconstrucao = null;
+                this.indice = novo;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LOG.debugf("Índice de busca de usuários reconstruído: %d usuários, %d trigramas",
+                    novo.documentoPorUsuario.size(), novo.usuariosPorTrigrama.size());
+        }
+    }
+
+    void aoAlterarUsuario(@Observes(during = TransactionPhase.AFTER_SUCCESS) UsuarioAlterado evento) {
+        lock.writeLock().lock();
+        try {
+            indice.aplicar(evento);
+            if (alteracoesDuranteReconstrucao != null) {
+                alteracoesDuranteReconstrucao.add(evento);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Trigramas e documentos indexados; substituído inteiro a cada reconstrução.
+     */
+    private static final class Indice {
+
+        private final Map<Long, RoaringBitmap> usuariosPorTrigrama = new HashMap<>();
+        private final Map<Long, Integer> documentoPorUsuario = new HashMap<>();
+        private final List<Documento> documentos = new ArrayList<>();
+        private final Deque<Integer> documentosLivres = new ArrayDeque<>();
+        private final RoaringBitmap ativos = new RoaringBitmap();
+
+        void aplicar(UsuarioAlterado evento) {
+            desindexar(evento.usuarioId());
+            if (!evento.removido()) {
+                indexar(evento.usuarioId(), evento.nomeUsuario(), evento.nomeCompleto(), evento.status());
+            }
+        }
+
+        void indexar(Long usuarioId, String nomeUsuario, String nomeCompleto, StatusUsuario status) {
+            Set<Long> unicos = new LinkedHashSet<>();
+            extrairTrigramas(nomeUsuario, true, unicos);
+            extrairTrigramas(nomeCompleto, true, unicos);
+            long[] trigramas = unicos.stream().mapToLong(Long::longValue).toArray();
+
+            Documento documento = new Documento(usuarioId, nomeUsuario, nomeCompleto, trigramas);
+            int posicao;
+            if (documentosLivres.isEmpty()) {
+                posicao = documentos.size();
+                documentos.add(documento);
+            } else {
+                posicao = documentosLivres.pop();
+                documentos.set(posicao, documento);
+            }
+            documentoPorUsuario.put(usuarioId, posicao);
+
+            for (long trigrama : trigramas) {
+                usuariosPorTrigrama.computeIfAbsent(trigrama, chave -> new RoaringBitmap()).add(posicao);
+            }
+            if (status == StatusUsuario.ATIVO) {
+                ativos.add(posicao);
+            }
+        }
+
+        void desindexar(Long usuarioId) {
+            Integer posicao = documentoPorUsuario.remove(usuarioId);
+            if (posicao == null) {
+                return;
+            }
+            for (long trigrama : documentos.get(posicao).trigramas()) {
+                RoaringBitmap usuarios = usuariosPorTrigrama.get(trigrama);
+                if (usuarios != null) {
+                    usuarios.remove(posicao);
+                    if (usuarios.isEmpty()) {
+                        usuariosPorTrigrama.remove(trigrama);
+                    }
+                }
+            }
+            ativos.remove(posicao);
+            documentos.set(posicao, null);
+            documentosLivres.push(posicao);
+        }
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    /**
+     * Busca usuários cujo nome completo ou nome de usuário se parece com o termo.
+     *
+     * @param termo trecho buscado (prefixos de palavras têm o melhor resultado)
+     * @param apenasAtivos se true, considera somente usuários com status ATIVO
+     * @param limite quantidade máxima de resultados
+     * @return usuários ordenados por similaridade decrescente
+     */
+    public List<UsuarioEncontradoDTO> buscar(String termo, boolean apenasAtivos, int limite) {
+        Set<Long> unicos = new LinkedHashSet<>();
+        extrairTrigramas(termo, false, unicos);
+        if (unicos.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+        long[] consulta = unicos.stream().mapToLong(Long::longValue).toArray();
+        int minimoEncontrados = (int) Math.ceil(consulta.length * SIMILARIDADE_MINIMA);
+
+        Comparator<UsuarioEncontradoDTO> ordem = Comparator
+                .comparingDouble(UsuarioEncontradoDTO::similaridade)
+                .thenComparing(UsuarioEncontradoDTO::nomeUsuario, Comparator.reverseOrder());
+        PriorityQueue<UsuarioEncontradoDTO> melhores = new PriorityQueue<>(limite + 1, ordem);
+
+        lock.readLock().lock();
+        try {
+            Indice atual = indice;
+            RoaringBitmap[] listas = Arrays.stream(consulta)
+                    .mapToObj(atual.usuariosPorTrigrama::get)
+                    .filter(lista -> lista != null)
+                    .toArray(RoaringBitmap[]::new);
+            if (listas.length < minimoEncontrados) {
+                return List.of();
+            }
+
+            // Conta apenas sobre os usuários que contêm algum trigrama da consulta
+            RoaringBitmap tocados = FastAggregation.or(listas);
+            if (apenasAtivos) {
+                tocados.and(atual.ativos);
+            }
+            tocados.forEach((int posicao) -> {
+                int encontrados = 0;
+                for (RoaringBitmap lista : listas) {
+                    if (lista.contains(posicao)) {
+                        encontrados++;
+                    }
+                }
+                if (encontrados < minimoEncontrados) {
+                    return;
+                }
+                Documento documento = atual.documentos.get(posicao);
+                melhores.offer(new UsuarioEncontradoDTO(documento.usuarioId(), documento.nomeUsuario(),
+                        documento.nomeCompleto(), (double) encontrados / consulta.length));
+                if (melhores.size() > limite) {
+                    melhores.poll();
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<UsuarioEncontradoDTO> resultado = new ArrayList<>(melhores);
+        resultado.sort(ordem.reversed());
+        return resultado;
+    }
+
+    // ========================================================================
+    // Trigramas
+    // ========================================================================
+
+    /**
+     * Extrai os trigramas de cada palavra do texto, com dois espaços antes da
+     * palavra. No índice, a palavra também recebe um espaço ao final; na
+     * consulta não, para que "sil" encontre "silva".
+     */
+    private static void extrairTrigramas(String texto, boolean comFimDePalavra, Set<Long> destino) {
+        if (texto == null) {
+            return;
+        }
+        String normalizado = Normalizer.normalize(texto.toLowerCase(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        for (String palavra : normalizado.split("[^\\p{L}\\p{N}]+")) {
+            if (palavra.isEmpty()) {
+                continue;
+            }
+            String comBordas = "  " + palavra + (comFimDePalavra ? " " : "");
+            for (int i = 0; i + 3 <= comBordas.length(); i++) {
+                destino.add(codificar(comBordas.charAt(i), comBordas.charAt(i + 1), comBordas.charAt(i + 2)));
+            }
+        }
+    }
+
+    private static long codificar(char primeiro, char segundo, char terceiro) {
+        return ((long) primeiro << 32) | ((long) segundo << 16) | terceiro;
+    }
+}
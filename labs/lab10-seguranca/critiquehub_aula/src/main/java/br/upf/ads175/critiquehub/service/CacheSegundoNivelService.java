@@ -0,0 +1,54 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.entity.model.ItemCultural;
+import br.upf.ads175.critiquehub.entity.model.Tag;
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.jboss.logging.Logger;
+
+/**
+ * Validade das regiões do cache de segundo nível, contada a partir da carga.
+ *
+ * As regiões do Hibernate no Quarkus só aceitam {@code expiration.max-idle}: uma
+ * entrada lida com frequência nunca expira, e alterações que não passam pelo
+ * Hibernate desta instância (outras instâncias, SQL nativo, atualizações em lote)
+ * ficariam visíveis só depois de uma pausa nos acessos. Esvaziar cada região em
+ * intervalo fixo limita essa defasagem ao intervalo configurado.
+ */
+@ApplicationScoped
+public class CacheSegundoNivelService {
+
+    private static final Logger LOG = Logger.getLogger(CacheSegundoNivelService.class);
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Scheduled(every = "${critiquehub.cache-l2.validade-usuarios:10m}", delayed = "10m",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void expirarUsuarios() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Usuario.class);
+        cache.evictCollectionData(Usuario.class.getName() + ".roles");
+        LOG.debug("Cache de segundo nível de usuários esvaziado");
+    }
+
+    @Scheduled(every = "${critiquehub.cache-l2.validade-itens:30m}", delayed = "30m",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void expirarItens() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(ItemCultural.class);
+        cache.evictCollectionData(ItemCultural.class.getName() + ".tags");
+        LOG.debug("Cache de segundo nível de itens culturais esvaziado");
+    }
+
+    @Scheduled(every = "${critiquehub.cache-l2.validade-tags:1h}", delayed = "1h",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void expirarTags() {
+        sessionFactory.getCache().evictEntityData(Tag.class);
+        LOG.debug("Cache de segundo nível de tags esvaziado");
+    }
+}
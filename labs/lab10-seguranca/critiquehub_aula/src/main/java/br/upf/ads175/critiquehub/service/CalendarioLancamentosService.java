@@ -0,0 +1,297 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ItemResumoDTO;
+import br.upf.ads175.critiquehub.event.CatalogoImportado;
+import br.upf.ads175.critiquehub.event.ItemCulturalAlterado;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Calendário de lançamentos em memória.
+ *
+ * Mantém os itens ativos com data de lançamento agrupados por mês e, dentro de
+ * cada mês, por dia. Cada mês guarda o total de itens, de forma que a paginação
+ * pula meses inteiros sem percorrê-los: "lançados nos últimos N dias" e
+ * "próximos lançamentos" custam O(meses no intervalo + itens da página).
+ *
+ * Substitui o uso repetido de {@code ItemCultural.buscarLancamentosRecentes}
+ * na página inicial, que não tem paginação.
+ */
+@ApplicationScoped
+public class CalendarioLancamentosService {
+
+    private static final Logger LOG = Logger.getLogger(CalendarioLancamentosService.class);
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    CatalogoSnapshotService catalogoSnapshotService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Calendario calendario = new Calendario();
+
+    /**
+     * Garante uma reconstrução por vez.
+     */
+    private final Object reconstrucao = new Object();
+
+    /**
+     * Eventos recebidos durante uma reconstrução, na ordem de chegada; {@code null}
+     * fora dela. Protegida pelo lock de escrita.
+     */
+    private List<ItemCulturalAlterado> alteracoesDuranteReconstrucao;
+
+    // ========================================================================
+    // Construção e Manutenção
+    // ========================================================================
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reconstruir();
+    }
+
+    void aoImportarCatalogo(@Observes CatalogoImportado evento) {
+        reconstruir();
+    }
+
+    /**
+     * Reconstrói o calendário a partir do banco e substitui o atual.
+     *
+     * Alterações confirmadas enquanto o banco é lido podem não aparecer na
+     * leitura; elas são guardadas e reaplicadas sobre o calendário novo antes da
+     * troca, definindo o estado final do item em vez de aplicar a diferença.
+     */
+    @Transactional
+    public void reconstruir() {
+        synchronized (reconstrucao) {
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteReconstrucao = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Calendario novo = new Calendario();
+            entityManager.createQuery(
+                    "SELECT i.id, i.dataLancamento FROM ItemCultural i " +
+                    "WHERE i.ativo = true AND i.dataLancamento IS NOT NULL", Object[].class)
+                    .getResultStream()
+                    .forEach(linha -> novo.adicionar((Long) linha[0], (LocalDate) linha[1]));
+
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteReconstrucao.forEach(novo::aplicar);
+                alteracoesDuranteReconstrucao = null;
+                this.calendario = novo;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LOG.debugf("Calendário de lançamentos reconstruído com %d itens", novo.dataPorItem.size());
+        }
+    }
+
+    void aoAlterarItem(@Observes(during = TransactionPhase.AFTER_SUCCESS) ItemCulturalAlterado evento) {
+        lock.writeLock().lock();
+        try {
+            calendario.aplicar(evento);
+            if (alteracoesDuranteReconstrucao != null) {
+                alteracoesDuranteReconstrucao.add(evento);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    /**
+     * Lista os itens lançados nos últimos {@code dias} dias (incluindo hoje),
+     * do mais recente para o mais antigo.
+     */
+    public List<ItemResumoDTO> listarLancamentosRecentes(int dias, int pagina, int tamanhoPagina) {
+        LocalDate hoje = LocalDate.now();
+        return resumir(listarIds(hoje.minusDays(dias - 1L), hoje, true, pagina, tamanhoPagina));
+    }
+
+    public long contarLancamentosRecentes(int dias) {
+        LocalDate hoje = LocalDate.now();
+        return contar(hoje.minusDays(dias - 1L), hoje);
+    }
+
+    /**
+     * Lista os itens com lançamento nos próximos {@code dias} dias (a partir de
+     * amanhã), do mais próximo para o mais distante.
+     */
+    public List<ItemResumoDTO> listarProximosLancamentos(int dias, int pagina, int tamanhoPagina) {
+        LocalDate amanha = LocalDate.now().plusDays(1);
+        return resumir(listarIds(amanha, amanha.plusDays(dias - 1L), false, pagina, tamanhoPagina));
+    }
+
+    public long contarProximosLancamentos(int dias) {
+        LocalDate amanha = LocalDate.now().plusDays(1);
+        return contar(amanha, amanha.plusDays(dias - 1L));
+    }
+
+    /**
+     * Lista os IDs dos itens ativos lançados entre {@code inicio} e {@code fim}
+     * (inclusive), ordenados por data e, no mesmo dia, por ID.
+     */
+    public List<Long> listarIds(LocalDate inicio, LocalDate fim, boolean decrescente,
+                                int pagina, int tamanhoPagina) {
+        if (inicio.isAfter(fim) || tamanhoPagina <= 0) {
+            return List.of();
+        }
+
+        long pular = (long) pagina * tamanhoPagina;
+        List<Long> ids = new ArrayList<>(tamanhoPagina);
+
+        lock.readLock().lock();
+        try {
+            NavigableMap<YearMonth, Mes> intervalo = calendario.meses.subMap(YearMonth.from(inicio), true, YearMonth.from(fim), true);
+            for (Map.Entry<YearMonth, Mes> entrada : (decrescente ? intervalo.descendingMap() : intervalo).entrySet()) {
+                Mes mes = entrada.getValue();
+                if (contidoNoIntervalo(entrada.getKey(), inicio, fim) && pular >= mes.total) {
+                    pular -= mes.total;
+                    continue;
+                }
+
+                NavigableMap<LocalDate, NavigableSet<Long>> dias = mes.dias.subMap(inicio, true, fim, true);
+                for (NavigableSet<Long> doDia : (decrescente ? dias.descendingMap() : dias).values()) {
+                    if (pular >= doDia.size()) {
+                        pular -= doDia.size();
+                        continue;
+                    }
+                    for (Long id : decrescente ? doDia.descendingSet() : doDia) {
+                        if (pular > 0) {
+                            pular--;
+                        } else if (ids.add(id) && ids.size() == tamanhoPagina) {
+                            return ids;
+                        }
+                    }
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Conta os itens ativos lançados entre {@code inicio} e {@code fim} (inclusive).
+     */
+    public long contar(LocalDate inicio, LocalDate fim) {
+        if (inicio.isAfter(fim)) {
+            return 0;
+        }
+
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (Map.Entry<YearMonth, Mes> entrada : calendario.meses.subMap(YearMonth.from(inicio), true, YearMonth.from(fim), true).entrySet()) {
+                Mes mes = entrada.getValue();
+                if (contidoNoIntervalo(entrada.getKey(), inicio, fim)) {
+                    total += mes.total;
+                } else {
+                    for (NavigableSet<Long> doDia : mes.dias.subMap(inicio, true, fim, true).values()) {
+                        total += doDia.size();
+                    }
+                }
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ItemResumoDTO> resumir(List<Long> ids) {
+        return catalogoSnapshotService.buscarPorIds(ids);
+    }
+
+    private static boolean contidoNoIntervalo(YearMonth mes, LocalDate inicio, LocalDate fim) {
+        return !mes.atDay(1).isBefore(inicio) && !mes.atEndOfMonth().isAfter(fim);
+    }
+
+    /**
+     * Itens ativos com data de lançamento, por mês e por item.
+     */
+    private static final class Calendario {
+
+        private final NavigableMap<YearMonth, Mes> meses = new TreeMap<>();
+        private final Map<Long, LocalDate> dataPorItem = new HashMap<>();
+
+        /**
+         * Define o estado final do item conforme o evento (idempotente).
+         */
+        void aplicar(ItemCulturalAlterado evento) {
+            remover(evento.itemId());
+            if (evento.ativo() && !evento.removido() && evento.dataLancamento() != null) {
+                adicionar(evento.itemId(), evento.dataLancamento());
+            }
+        }
+
+        void adicionar(Long itemId, LocalDate data) {
+            meses.computeIfAbsent(YearMonth.from(data), mes -> new Mes()).adicionar(data, itemId);
+            dataPorItem.put(itemId, data);
+        }
+
+        void remover(Long itemId) {
+            LocalDate data = dataPorItem.remove(itemId);
+            if (data == null) {
+                return;
+            }
+            YearMonth chave = YearMonth.from(data);
+            Mes mes = meses.get(chave);
+            if (mes != null && mes.remover(data, itemId) && mes.total == 0) {
+                meses.remove(chave);
+            }
+        }
+    }
+
+    /**
+     * Itens de um mês agrupados por dia, com o total do mês.
+     */
+    private static final class Mes {
+
+        private final NavigableMap<LocalDate, NavigableSet<Long>> dias = new TreeMap<>();
+        private int total;
+
+        void adicionar(LocalDate data, Long itemId) {
+            if (dias.computeIfAbsent(data, dia -> new TreeSet<>()).add(itemId)) {
+                total++;
+            }
+        }
+
+        boolean remover(LocalDate data, Long itemId) {
+            NavigableSet<Long> doDia = dias.get(data);
+            if (doDia == null || !doDia.remove(itemId)) {
+                return false;
+            }
+            if (doDia.isEmpty()) {
+                dias.remove(data);
+            }
+            total--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ResultadoBuscaDTO;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.event.CatalogoImportado;
+import br.upf.ads175.critiquehub.event.ItemCulturalAlterado;
+import br.upf.ads175.critiquehub.event.TagsDoItemAlteradas;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.pt.PortugueseLightStemFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.QueryBuilder;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Busca textual do catálogo sobre um índice Lucene embarcado.
+ *
+ * Indexa título, sinopse e nomes das tags de cada item cultural com um
+ * analisador para português (minúsculas, remoção de acentos e stemming leve),
+ * de modo que "acao" encontra "Ação". O título tem peso maior que as tags,
+ * e as tags maior que a sinopse. Os resultados são ordenados por relevância
+ * e podem ser filtrados por tipo e por ativo.
+ *
+ * O índice fica em memória: é montado em paralelo na inicialização e a cada
+ * importação, e atualizado pelos eventos {@link ItemCulturalAlterado} e
+ * {@link TagsDoItemAlteradas}, relendo o item do banco. A reindexação completa
+ * monta um índice novo ao lado do atual, que continua atendendo as buscas, e o
+ * substitui de uma vez; as buscas nunca veem um índice vazio ou pela metade.
+ */
+@ApplicationScoped
+public class CatalogoBuscaService {
+
+    private static final Logger LOG = Logger.getLogger(CatalogoBuscaService.class);
+
+    private static final String CAMPO_ID = "id";
+    private static final String CAMPO_TITULO = "titulo";
+    private static final String CAMPO_SINOPSE = "sinopse";
+    private static final String CAMPO_TAGS = "tags";
+    private static final String CAMPO_TIPO = "tipo";
+    private static final String CAMPO_ATIVO = "ativo";
+
+    private static final Map<String, Float> PESOS = Map.of(
+            CAMPO_TITULO, 3.0f,
+            CAMPO_TAGS, 2.0f,
+            CAMPO_SINOPSE, 1.0f);
+
+    @Inject
+    EntityManager entityManager;
+
+    private final Analyzer analisador = new AnalisadorPortugues();
+
+    /**
+     * Índice atendendo buscas e atualizações; trocado inteiro ao fim de cada reindexação.
+     */
+    private volatile Indice indice;
+
+    /**
+     * Travas que serializam as atualizações de um mesmo item (por faixa de ID).
+     */
+    private final Object[] travasPorItem = new Object[64];
+
+    /**
+     * Garante uma reindexação completa por vez.
+     */
+    private final Object reindexacao = new Object();
+
+    /**
+     * IDs alterados durante uma reindexação completa; {@code null} fora dela. Protegido por {@code this}.
+     */
+    private Set<Long> alteradosDuranteReindexacao;
+
+    {
+        Arrays.setAll(travasPorItem, i -> new Object());
+    }
+
+    // ========================================================================
+    // Ciclo de Vida
+    // ========================================================================
+
+    @PostConstruct
+    void abrir() {
+        indice = new Indice(analisador);
+    }
+
+    @PreDestroy
+    void fechar() {
+        indice.fechar();
+    }
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reindexar();
+    }
+
+    void aoImportarCatalogo(@Observes CatalogoImportado evento) {
+        reindexar();
+    }
+
+    // ========================================================================
+    // Indexação
+    // ========================================================================
+
+    /**
+     * Reindexa todo o catálogo em um índice novo, gerando os documentos em
+     * paralelo, e o coloca no lugar do atual.
+     *
+     * Enquanto isso, as alterações de itens continuam indo para o índice atual e
+     * são anotadas; antes da troca, cada item anotado é relido do banco e gravado
+     * também no índice novo, até não restar nenhum pendente.
+     */
+    @Transactional
+    public void reindexar() {
+        synchronized (reindexacao) {
+            synchronized (this) {
+                alteradosDuranteReindexacao = new HashSet<>();
+            }
+
+            Map<Long, List<String>> tagsPorItem = entityManager.createQuery(
+                    "SELECT i.id, t.nome FROM ItemCultural i JOIN i.tags t", Object[].class)
+                    .getResultStream()
+                    .collect(Collectors.groupingBy(linha -> (Long) linha[0],
+                            Collectors.mapping(linha -> (String) linha[1], Collectors.toList())));
+
+            List<Object[]> itens = entityManager.createQuery(
+                    "SELECT i.id, i.titulo, i.sinopse, i.tipo, i.ativo FROM ItemCultural i", Object[].class)
+                    .getResultList();
+
+            Indice novo = new Indice(analisador);
+            Indice anterior;
+            int reaplicados = 0;
+            try {
+                itens.parallelStream().forEach(linha -> {
+                    Long id = (Long) linha[0];
+                    novo.gravar(id, Optional.of(criarDocumento(id, (String) linha[1], (String) linha[2],
+                            (TipoItem) linha[3], Boolean.TRUE.equals(linha[4]), tagsPorItem.getOrDefault(id, List.of()))));
+                });
+
+                while (true) {
+                    Set<Long> pendentes;
+                    synchronized (this) {
+                        if (alteradosDuranteReindexacao.isEmpty()) {
+                            novo.buscadores.maybeRefreshBlocking();
+                            anterior = indice;
+                            indice = novo;
+                            alteradosDuranteReindexacao = null;
+                            break;
+                        }
+                        pendentes = alteradosDuranteReindexacao;
+                        alteradosDuranteReindexacao = new HashSet<>();
+                    }
+                    for (Long id : pendentes) {
+                        novo.gravar(id, QuarkusTransaction.requiringNew().call(() -> carregarDocumento(id)));
+                    }
+                    reaplicados += pendentes.size();
+                }
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    alteradosDuranteReindexacao = null;
+                }
+                novo.fechar();
+                throw e instanceof IOException io
+                        ? new UncheckedIOException("Falha ao reindexar o catálogo", io)
+                        : (RuntimeException) e;
+            }
+
+            anterior.fechar();
+            LOG.debugf("Catálogo reindexado para busca: %d itens (%d reaplicados)", itens.size(), reaplicados);
+        }
+    }
+
+    void aoAlterarItem(@Observes(during = TransactionPhase.AFTER_SUCCESS) ItemCulturalAlterado evento) {
+        reindexarItem(evento.itemId());
+    }
+
+    void aoAlterarTags(@Observes(during = TransactionPhase.AFTER_SUCCESS) TagsDoItemAlteradas evento) {
+        reindexarItem(evento.itemId());
+    }
+
+    /**
+     * Grava no índice o estado atual do item, lido do banco.
+     *
+     * O documento nunca é montado a partir do índice (que pode estar defasado)
+     * e as atualizações de um mesmo item são serializadas, de modo que a
+     * última leitura do banco é sempre a última gravada.
+     */
+    private void reindexarItem(Long itemId) {
+        synchronized (this) {
+            if (alteradosDuranteReindexacao != null) {
+                alteradosDuranteReindexacao.add(itemId);
+            }
+        }
+
+        synchronized (travasPorItem[Math.floorMod(itemId.hashCode(), travasPorItem.length)]) {
+            try {
+                Optional<Document> documento = QuarkusTransaction.requiringNew().call(() -> carregarDocumento(itemId));
+                Indice atual = indice;
+                atual.gravar(itemId, documento);
+                atual.buscadores.maybeRefresh();
+            } catch (AlreadyClosedException e) {
+                // Índice substituído no meio da gravação; a reindexação já releu este item
+                LOG.debugf("Item %d gravado em índice já substituído", itemId);
+            } catch (IOException | RuntimeException e) {
+                LOG.errorf(e, "Falha ao atualizar o item %d no índice de busca", itemId);
+            }
+        }
+    }
+
+    private Optional<Document> carregarDocumento(Long itemId) {
+        List<Object[]> linhas = entityManager.createQuery(
+                "SELECT i.titulo, i.sinopse, i.tipo, i.ativo FROM ItemCultural i WHERE i.id = :id", Object[].class)
+                .setParameter("id", itemId)
+                .getResultList();
+        if (linhas.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<String> tags = entityManager.createQuery(
+                "SELECT t.nome FROM ItemCultural i JOIN i.tags t WHERE i.id = :id", String.class)
+                .setParameter("id", itemId)
+                .getResultList();
+        Object[] linha = linhas.get(0);
+        return Optional.of(criarDocumento(itemId, (String) linha[0], (String) linha[1], (TipoItem) linha[2],
+                Boolean.TRUE.equals(linha[3]), tags));
+    }
+
+    private Document criarDocumento(Long id, String titulo, String sinopse, TipoItem tipo,
+                                    boolean ativo, Collection<String> tags) {
+        Document documento = new Document();
+        documento.add(new StringField(CAMPO_ID, id.toString(), Field.Store.YES));
+        documento.add(new TextField(CAMPO_TITULO, titulo != null ? titulo : "", Field.Store.YES));
+        if (sinopse != null) {
+            documento.add(new TextField(CAMPO_SINOPSE, sinopse, Field.Store.YES));
+        }
+        for (String tag : tags) {
+            documento.add(new TextField(CAMPO_TAGS, tag, Field.Store.YES));
+        }
+        documento.add(new StringField(CAMPO_TIPO, tipo.name(), Field.Store.YES));
+        documento.add(new StringField(CAMPO_ATIVO, Boolean.toString(ativo), Field.Store.YES));
+        return documento;
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    /**
+     * Busca itens por texto livre em título, sinopse e tags.
+     *
+     * @param texto termos de busca
+     * @param tipos tipos aceitos (vazio ou nulo para todos)
+     * @param apenasAtivos se true, retorna apenas itens ativos
+     * @param pagina número da página (base 0)
+     * @param tamanhoPagina quantidade de itens por página
+     * @return total de itens encontrados e IDs da página, ordenados por relevância
+     */
+    public ResultadoBuscaDTO buscar(String texto, Set<TipoItem> tipos, boolean apenasAtivos,
+                                    int pagina, int tamanhoPagina) {
+        if (texto == null || texto.isBlank() || tamanhoPagina <= 0) {
+            return new ResultadoBuscaDTO(0, List.of());
+        }
+
+        Query consultaTexto = montarConsultaTexto(texto.trim());
+        if (consultaTexto == null) {
+            return new ResultadoBuscaDTO(0, List.of());
+        }
+
+        BooleanQuery.Builder consulta = new BooleanQuery.Builder()
+                .add(consultaTexto, BooleanClause.Occur.MUST);
+        if (apenasAtivos) {
+            consulta.add(new TermQuery(new Term(CAMPO_ATIVO, "true")), BooleanClause.Occur.FILTER);
+        }
+        if (tipos != null && !tipos.isEmpty()) {
+            BooleanQuery.Builder filtroTipo = new BooleanQuery.Builder();
+            tipos.forEach(tipo -> filtroTipo.add(new TermQuery(new Term(CAMPO_TIPO, tipo.name())),
+                    BooleanClause.Occur.SHOULD));
+            consulta.add(filtroTipo.build(), BooleanClause.Occur.FILTER);
+        }
+
+        while (true) {
+            Indice atual = indice;
+            try {
+                IndexSearcher buscador = atual.buscadores.acquire();
+                try {
+                    int inicio = pagina * tamanhoPagina;
+                    TopDocs encontrados = buscador.search(consulta.build(), inicio + tamanhoPagina);
+
+                    List<Long> ids = new ArrayList<>(tamanhoPagina);
+                    ScoreDoc[] documentos = encontrados.scoreDocs;
+                    for (int i = inicio; i < documentos.length; i++) {
+                        ids.add(Long.valueOf(buscador.storedFields().document(documentos[i].doc).get(CAMPO_ID)));
+                    }
+                    return new ResultadoBuscaDTO(encontrados.totalHits.value, ids);
+                } finally {
+                    atual.buscadores.release(buscador);
+                }
+            } catch (AlreadyClosedException e) {
+                // Índice substituído por uma reindexação entre a leitura do campo e o acquire
+                if (atual == indice) {
+                    throw e;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao consultar o índice de busca do catálogo", e);
+            }
+        }
+    }
+
+    /**
+     * Combina os campos pesquisáveis aplicando o peso de cada um.
+     */
+    private Query montarConsultaTexto(String texto) {
+        QueryBuilder construtor = new QueryBuilder(analisador);
+        BooleanQuery.Builder consulta = new BooleanQuery.Builder();
+        boolean possuiTermos = false;
+
+        for (Map.Entry<String, Float> peso : PESOS.entrySet()) {
+            Query porCampo = construtor.createBooleanQuery(peso.getKey(), texto, BooleanClause.Occur.SHOULD);
+            if (porCampo != null) {
+                consulta.add(new BoostQuery(porCampo, peso.getValue()), BooleanClause.Occur.SHOULD);
+                possuiTermos = true;
+            }
+        }
+        return possuiTermos ? consulta.build() : null;
+    }
+
+    /**
+     * Diretório em memória com seu escritor e gerenciador de buscadores.
+     */
+    private static final class Indice {
+
+        private final Directory diretorio = new ByteBuffersDirectory();
+        private final IndexWriter escritor;
+        private final SearcherManager buscadores;
+
+        Indice(Analyzer analisador) {
+            try {
+                escritor = new IndexWriter(diretorio, new IndexWriterConfig(analisador));
+                buscadores = new SearcherManager(escritor, null);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Não foi possível abrir o índice de busca do catálogo", e);
+            }
+        }
+
+        /**
+         * Grava o documento do item ou, se ausente, remove o item do índice.
+         */
+        void gravar(Long itemId, Optional<Document> documento) {
+            Term termo = new Term(CAMPO_ID, itemId.toString());
+            try {
+                if (documento.isPresent()) {
+                    escritor.updateDocument(termo, documento.get());
+                } else {
+                    escritor.deleteDocuments(termo);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void fechar() {
+            try {
+                buscadores.close();
+                escritor.close();
+                diretorio.close();
+            } catch (IOException e) {
+                LOG.warn("Falha ao fechar o índice de busca do catálogo", e);
+            }
+        }
+    }
+
+    /**
+     * Analisador para títulos em português: minúsculas, stemming leve e remoção de acentos.
+     */
+    private static final class AnalisadorPortugues extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String campo) {
+            StandardTokenizer tokenizador = new StandardTokenizer();
+            TokenStream fluxo = new LowerCaseFilter(tokenizador);
+            fluxo = new PortugueseLightStemFilter(fluxo);
+            fluxo = new ASCIIFoldingFilter(fluxo);
+            return new TokenStreamComponents(tokenizador, fluxo);
+        }
+    }
+}
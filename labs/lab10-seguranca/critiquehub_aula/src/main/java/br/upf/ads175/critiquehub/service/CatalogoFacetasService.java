@@ -0,0 +1,330 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.FiltroCatalogoDTO;
+import br.upf.ads175.critiquehub.dto.ResultadoFacetasDTO;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.event.CatalogoImportado;
+import br.upf.ads175.critiquehub.event.ItemCulturalAlterado;
+import br.upf.ads175.critiquehub.event.TagsDoItemAlteradas;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.jboss.logging.Logger;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Motor de facetas do catálogo baseado em bitmaps compactados (RoaringBitmap).
+ *
+ * Mantém um bitmap de IDs de itens culturais por tag, por tipo, por ano de
+ * lançamento e para itens ativos. Filtros AND/OR viram operações entre bitmaps
+ * e as contagens por faceta são cardinalidades de interseção, sem junções em
+ * item_cultural_tag nem COUNT no banco.
+ *
+ * O índice é reconstruído na inicialização e mantido pelos eventos
+ * {@link ItemCulturalAlterado} e {@link TagsDoItemAlteradas}; eventos que chegam
+ * durante uma reconstrução são reaplicados sobre o índice novo.
+ * IDs de item são armazenados como int; o catálogo não ultrapassa esse limite.
+ */
+@ApplicationScoped
+public class CatalogoFacetasService {
+
+    private static final Logger LOG = Logger.getLogger(CatalogoFacetasService.class);
+
+    @Inject
+    EntityManager entityManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Indice indice = new Indice();
+
+    /**
+     * Garante uma reconstrução por vez.
+     */
+    private final Object reconstrucao = new Object();
+
+    /**
+     * Eventos recebidos durante uma reconstrução, na ordem de chegada; {@code null}
+     * fora dela. Protegida pelo lock de escrita.
+     */
+    private List<Object> alteracoesDuranteReconstrucao;
+
+    // ========================================================================
+    // Construção e Manutenção
+    // ========================================================================
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reconstruir();
+    }
+
+    void aoImportarCatalogo(@Observes CatalogoImportado evento) {
+        reconstruir();
+    }
+
+    /**
+     * Reconstrói todos os bitmaps a partir do banco e substitui o índice atual.
+     *
+     * Alterações confirmadas enquanto o banco é lido podem não aparecer na
+     * leitura; elas são guardadas e reaplicadas sobre o índice novo antes da
+     * troca, definindo o estado final do item em vez de aplicar a diferença.
+     */
+    @Transactional
+    public void reconstruir() {
+        synchronized (reconstrucao) {
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteReconstrucao = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Indice novo = new Indice();
+
+            entityManager.createQuery(
+                    "SELECT i.id, i.tipo, i.dataLancamento, i.ativo FROM ItemCultural i", Object[].class)
+                    .getResultStream()
+                    .forEach(linha -> novo.indexarItem(paraInt((Long) linha[0]), (TipoItem) linha[1],
+                            (LocalDate) linha[2], Boolean.TRUE.equals(linha[3])));
+
+            entityManager.createQuery("SELECT i.id, t.id FROM ItemCultural i JOIN i.tags t", Object[].class)
+                    .getResultStream()
+                    .forEach(linha -> novo.bitmap(novo.porTag, (Long) linha[1]).add(paraInt((Long) linha[0])));
+
+            lock.writeLock().lock();
+            try {
+                for (Object alteracao : alteracoesDuranteReconstrucao) {
+                    if (alteracao instanceof ItemCulturalAlterado item) {
+                        aplicar(novo, item);
+                    } else if (alteracao instanceof TagsDoItemAlteradas tags) {
+                        novo.definirTags(paraInt(tags.itemId()), tags.tagIdsAtuais());
+                    }
+                }
+                alteracoesDuranteReconstrucao = null;
+                novo.otimizar();
+                this.indice = novo;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LOG.debugf("Índice de facetas reconstruído: %d itens, %d tags",
+                    novo.todos.getLongCardinality(), novo.porTag.size());
+        }
+    }
+
+    void aoAlterarItem(@Observes(during = TransactionPhase.AFTER_SUCCESS) ItemCulturalAlterado evento) {
+        lock.writeLock().lock();
+        try {
+            aplicar(indice, evento);
+            registrarDuranteReconstrucao(evento);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void aoAlterarTags(@Observes(during = TransactionPhase.AFTER_SUCCESS) TagsDoItemAlteradas evento) {
+        int id = paraInt(evento.itemId());
+        lock.writeLock().lock();
+        try {
+            for (Long tagId : evento.tagIdsAnteriores()) {
+                if (!evento.tagIdsAtuais().contains(tagId)) {
+                    indice.bitmap(indice.porTag, tagId).remove(id);
+                }
+            }
+            for (Long tagId : evento.tagIdsAtuais()) {
+                indice.bitmap(indice.porTag, tagId).add(id);
+            }
+            registrarDuranteReconstrucao(evento);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void aplicar(Indice alvo, ItemCulturalAlterado evento) {
+        int id = paraInt(evento.itemId());
+        alvo.desindexarItem(id, evento.removido());
+        if (!evento.removido()) {
+            alvo.indexarItem(id, evento.tipo(), evento.dataLancamento(), evento.ativo());
+        }
+    }
+
+    /**
+     * Deve ser chamado com o lock de escrita.
+     */
+    private void registrarDuranteReconstrucao(Object evento) {
+        if (alteracoesDuranteReconstrucao != null) {
+            alteracoesDuranteReconstrucao.add(evento);
+        }
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    /**
+     * Aplica o filtro e calcula as contagens por faceta sobre o resultado.
+     *
+     * @param filtro filtro facetado
+     * @param pagina número da página (base 0)
+     * @param tamanhoPagina quantidade de IDs por página
+     * @return total, IDs da página e contagens por tag, tipo e ano
+     */
+    public ResultadoFacetasDTO filtrar(FiltroCatalogoDTO filtro, int pagina, int tamanhoPagina) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap resultado = aplicarFiltro(indice, filtro);
+            return new ResultadoFacetasDTO(
+                    resultado.getLongCardinality(),
+                    paginar(resultado, pagina, tamanhoPagina),
+                    contar(indice.porTag, resultado),
+                    contar(indice.porTipo, resultado),
+                    contar(indice.porAno, resultado));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Conta os itens que atendem ao filtro, sem calcular facetas.
+     */
+    public long contar(FiltroCatalogoDTO filtro) {
+        lock.readLock().lock();
+        try {
+            return aplicarFiltro(indice, filtro).getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap aplicarFiltro(Indice atual, FiltroCatalogoDTO filtro) {
+        RoaringBitmap resultado = (filtro.apenasAtivos() ? atual.ativos : atual.todos).clone();
+
+        for (Long tagId : filtro.todasAsTags()) {
+            resultado.and(atual.porTag.getOrDefault(tagId, new RoaringBitmap()));
+        }
+        if (!filtro.algumaDasTags().isEmpty()) {
+            resultado.and(unir(atual.porTag, filtro.algumaDasTags()));
+        }
+        if (!filtro.tipos().isEmpty()) {
+            resultado.and(unir(atual.porTipo, filtro.tipos()));
+        }
+        if (!filtro.anosLancamento().isEmpty()) {
+            resultado.and(unir(atual.porAno, filtro.anosLancamento()));
+        }
+        return resultado;
+    }
+
+    private static <K> RoaringBitmap unir(Map<K, RoaringBitmap> bitmaps, Collection<K> chaves) {
+        return FastAggregation.or(chaves.stream()
+                .map(bitmaps::get)
+                .filter(Objects::nonNull)
+                .iterator());
+    }
+
+    private static <K> Map<K, Long> contar(Map<K, RoaringBitmap> bitmaps, RoaringBitmap resultado) {
+        Map<K, Long> contagens = new HashMap<>();
+        bitmaps.forEach((chave, bitmap) -> {
+            long quantidade = RoaringBitmap.andCardinality(resultado, bitmap);
+            if (quantidade > 0) {
+                contagens.put(chave, quantidade);
+            }
+        });
+        return contagens;
+    }
+
+    private static List<Long> paginar(RoaringBitmap resultado, int pagina, int tamanhoPagina) {
+        long inicio = (long) pagina * tamanhoPagina;
+        if (tamanhoPagina <= 0 || inicio >= resultado.getLongCardinality()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(tamanhoPagina);
+        IntIterator iterador = resultado.getIntIterator();
+        long posicao = 0;
+        while (iterador.hasNext() && ids.size() < tamanhoPagina) {
+            int id = iterador.next();
+            if (posicao++ >= inicio) {
+                ids.add((long) id);
+            }
+        }
+        return ids;
+    }
+
+    private static int paraInt(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    // ========================================================================
+    // Estrutura Interna
+    // ========================================================================
+
+    /**
+     * Conjunto de bitmaps do catálogo. Acesso protegido pelo lock do serviço.
+     */
+    private static final class Indice {
+
+        private final RoaringBitmap todos = new RoaringBitmap();
+        private final RoaringBitmap ativos = new RoaringBitmap();
+        private final Map<Long, RoaringBitmap> porTag = new HashMap<>();
+        private final Map<TipoItem, RoaringBitmap> porTipo = new EnumMap<>(TipoItem.class);
+        private final Map<Integer, RoaringBitmap> porAno = new HashMap<>();
+
+        <K> RoaringBitmap bitmap(Map<K, RoaringBitmap> bitmaps, K chave) {
+            return bitmaps.computeIfAbsent(chave, k -> new RoaringBitmap());
+        }
+
+        void indexarItem(int id, TipoItem tipo, LocalDate dataLancamento, boolean ativo) {
+            todos.add(id);
+            if (ativo) {
+                ativos.add(id);
+            }
+            if (tipo != null) {
+                bitmap(porTipo, tipo).add(id);
+            }
+            if (dataLancamento != null) {
+                bitmap(porAno, dataLancamento.getYear()).add(id);
+            }
+        }
+
+        void desindexarItem(int id, boolean incluirTags) {
+            todos.remove(id);
+            ativos.remove(id);
+            porTipo.values().forEach(bitmap -> bitmap.remove(id));
+            porAno.values().forEach(bitmap -> bitmap.remove(id));
+            if (incluirTags) {
+                porTag.values().forEach(bitmap -> bitmap.remove(id));
+            }
+        }
+
+        void definirTags(int id, Collection<Long> tagIds) {
+            porTag.forEach((tagId, bitmap) -> {
+                if (!tagIds.contains(tagId)) {
+                    bitmap.remove(id);
+                }
+            });
+            tagIds.forEach(tagId -> bitmap(porTag, tagId).add(id));
+        }
+
+        void otimizar() {
+            todos.runOptimize();
+            ativos.runOptimize();
+            porTag.values().forEach(RoaringBitmap::runOptimize);
+            porTipo.values().forEach(RoaringBitmap::runOptimize);
+            porAno.values().forEach(RoaringBitmap::runOptimize);
+        }
+    }
+}
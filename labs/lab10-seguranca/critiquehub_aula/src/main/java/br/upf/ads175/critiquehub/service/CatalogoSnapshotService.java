@@ -0,0 +1,550 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ItemResumoDTO;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.event.CatalogoImportado;
+import br.upf.ads175.critiquehub.event.ItemCulturalAlterado;
+import br.upf.ads175.critiquehub.event.TagsDoItemAlteradas;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.jboss.logging.Logger;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot compacto e somente leitura do catálogo, mantido fora do heap.
+ *
+ * Guarda apenas o que as páginas de listagem exibem (id, título, tipo, data de
+ * lançamento e IDs das tags) em um ByteBuffer direto, com índices em arrays de
+ * int ordenados por título. Listar e navegar no catálogo não consulta o banco,
+ * não carrega entidades e não gera objetos além dos DTOs da página.
+ *
+ * As alterações chegam pelos eventos {@link ItemCulturalAlterado} e
+ * {@link TagsDoItemAlteradas}, ficam em uma fila e são aplicadas em segundo plano,
+ * sem acessar o banco: só os registros alterados são codificados, acrescentados
+ * ao fim do buffer e posicionados por busca binária no título; os inalterados
+ * não são copiados. As leituras nunca esperam por essa aplicação e veem o
+ * snapshot anterior até a troca.
+ */
+@ApplicationScoped
+public class CatalogoSnapshotService {
+
+    private static final Logger LOG = Logger.getLogger(CatalogoSnapshotService.class);
+
+    @Inject
+    EntityManager entityManager;
+
+    private volatile Snapshot snapshot = Snapshot.codificar(List.of());
+
+    private final Queue<Object> alteracoesPendentes = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean aplicacaoAgendada = new AtomicBoolean();
+
+    private ExecutorService aplicador;
+
+    @PostConstruct
+    void iniciar() {
+        aplicador = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "catalogo-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void encerrar() {
+        aplicador.shutdownNow();
+    }
+
+    // ========================================================================
+    // Construção e Manutenção
+    // ========================================================================
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reconstruir();
+    }
+
+    void aoImportarCatalogo(@Observes CatalogoImportado evento) {
+        reconstruir();
+    }
+
+    /**
+     * Reconstrói o snapshot completo a partir do banco.
+     *
+     * A fila é esvaziada antes da leitura (essas alterações já estão confirmadas
+     * e aparecem nela); o que chegar durante a leitura é aplicado sobre o
+     * snapshot novo antes da troca. A aplicação em segundo plano espera a
+     * reconstrução terminar, então nenhuma alteração se perde entre os dois.
+     */
+    @Transactional
+    public synchronized void reconstruir() {
+        alteracoesPendentes.clear();
+
+        Map<Long, List<Long>> tagsPorItem = entityManager.createQuery(
+                "SELECT i.id, t.id FROM ItemCultural i JOIN i.tags t", Object[].class)
+                .getResultStream()
+                .collect(Collectors.groupingBy(linha -> (Long) linha[0],
+                        Collectors.mapping(linha -> (Long) linha[1], Collectors.toList())));
+
+        List<Registro> registros = entityManager.createQuery(
+                "SELECT i.id, i.titulo, i.tipo, i.dataLancamento, i.ativo FROM ItemCultural i", Object[].class)
+                .getResultStream()
+                .map(linha -> new Registro((Long) linha[0], (String) linha[1], (TipoItem) linha[2],
+                        (LocalDate) linha[3], Boolean.TRUE.equals(linha[4]),
+                        tagsPorItem.getOrDefault((Long) linha[0], List.of())))
+                .toList();
+
+        Snapshot novo = Snapshot.codificar(registros);
+        this.snapshot = aplicar(novo);
+        LOG.debugf("Snapshot do catálogo reconstruído: %d itens, %d bytes fora do heap",
+                registros.size(), novo.dados.capacity());
+    }
+
+    void aoAlterarItem(@Observes(during = TransactionPhase.AFTER_SUCCESS) ItemCulturalAlterado evento) {
+        enfileirar(evento);
+    }
+
+    void aoAlterarTags(@Observes(during = TransactionPhase.AFTER_SUCCESS) TagsDoItemAlteradas evento) {
+        enfileirar(evento);
+    }
+
+    private void enfileirar(Object alteracao) {
+        alteracoesPendentes.add(alteracao);
+        if (aplicacaoAgendada.compareAndSet(false, true)) {
+            aplicador.execute(this::aplicarAlteracoesPendentes);
+        }
+    }
+
+    private synchronized void aplicarAlteracoesPendentes() {
+        // Liberada antes de consumir a fila: o que chegar durante a aplicação agenda outra
+        aplicacaoAgendada.set(false);
+        try {
+            this.snapshot = aplicar(snapshot);
+        } catch (RuntimeException e) {
+            LOG.error("Falha ao aplicar alterações ao snapshot do catálogo", e);
+        }
+    }
+
+    /**
+     * Consome a fila e aplica as alterações sobre o snapshot informado. Deve ser chamado com o monitor do serviço.
+     */
+    private Snapshot aplicar(Snapshot base) {
+        Map<Long, Optional<Registro>> alteracoes = new HashMap<>();
+        Object alteracao;
+        while ((alteracao = alteracoesPendentes.poll()) != null) {
+            if (alteracao instanceof ItemCulturalAlterado item) {
+                if (item.removido()) {
+                    alteracoes.put(item.itemId(), Optional.empty());
+                } else {
+                    List<Long> tagIds = registroAtual(base, alteracoes, item.itemId())
+                            .map(Registro::tagIds)
+                            .orElse(List.of());
+                    alteracoes.put(item.itemId(), Optional.of(new Registro(item.itemId(), item.titulo(),
+                            item.tipo(), item.dataLancamento(), item.ativo(), tagIds)));
+                }
+            } else if (alteracao instanceof TagsDoItemAlteradas tags) {
+                registroAtual(base, alteracoes, tags.itemId()).ifPresent(registro ->
+                        alteracoes.put(tags.itemId(), Optional.of(registro.comTags(List.copyOf(tags.tagIdsAtuais())))));
+            }
+        }
+        return alteracoes.isEmpty() ? base : base.aplicar(alteracoes);
+    }
+
+    private static Optional<Registro> registroAtual(Snapshot base, Map<Long, Optional<Registro>> alteracoes, Long id) {
+        return alteracoes.containsKey(id) ? alteracoes.get(id) : base.buscar(id);
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    /**
+     * Lista os itens ativos ordenados por título.
+     */
+    public List<ItemResumoDTO> listarAtivos(int pagina, int tamanhoPagina) {
+        Snapshot atual = snapshot;
+        return atual.ler(atual.ativos, pagina, tamanhoPagina);
+    }
+
+    /**
+     * Lista os itens ativos de um tipo ordenados por título.
+     */
+    public List<ItemResumoDTO> listarAtivosPorTipo(TipoItem tipo, int pagina, int tamanhoPagina) {
+        Snapshot atual = snapshot;
+        return atual.ler(atual.ativosPorTipo[tipo.ordinal()], pagina, tamanhoPagina);
+    }
+
+    public long contarAtivos() {
+        return snapshot.ativos.length;
+    }
+
+    public long contarAtivosPorTipo(TipoItem tipo) {
+        return snapshot.ativosPorTipo[tipo.ordinal()].length;
+    }
+
+    /**
+     * Busca o resumo de um item ativo pelo ID.
+     */
+    public Optional<ItemResumoDTO> buscarPorId(Long id) {
+        Snapshot atual = snapshot;
+        int offset = atual.localizar(id);
+        return offset >= 0 && atual.isAtivo(offset) ? Optional.of(atual.ler(offset)) : Optional.empty();
+    }
+
+    /**
+     * Busca os resumos dos itens ativos informados, preservando a ordem dos IDs
+     * (ex.: IDs vindos do motor de facetas ou da busca textual).
+     */
+    public List<ItemResumoDTO> buscarPorIds(Collection<Long> ids) {
+        Snapshot atual = snapshot;
+        List<ItemResumoDTO> resumos = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            int offset = atual.localizar(id);
+            if (offset >= 0 && atual.isAtivo(offset)) {
+                resumos.add(atual.ler(offset));
+            }
+        }
+        return resumos;
+    }
+
+    // ========================================================================
+    // Estrutura Interna
+    // ========================================================================
+
+    private record Registro(Long id, String titulo, TipoItem tipo, LocalDate dataLancamento,
+                            boolean ativo, List<Long> tagIds) {
+
+        Registro comTags(List<Long> novasTags) {
+            return new Registro(id, titulo, tipo, dataLancamento, ativo, novasTags);
+        }
+    }
+
+    /**
+     * Registros codificados em sequência em um ByteBuffer direto:
+     * id (long) | tipo (byte) | ativo (byte) | dia da época (int) |
+     * tamanho do título (short) | título UTF-8 | quantidade de tags (short) | IDs das tags (long).
+     *
+     * O buffer é compartilhado pelos snapshots sucessivos: cada aplicação grava
+     * depois de {@link #fim}, onde nenhum snapshot anterior lê. Um buffer novo,
+     * compactado e na ordem de título, só é alocado quando falta espaço ou quando
+     * os registros substituídos passam a ocupar mais que os vivos.
+     */
+    private static final class Snapshot {
+
+        private static final int SEM_DATA = Integer.MIN_VALUE;
+        private static final int FOLGA_MINIMA = 4096;
+        private static final Comparator<Registro> ORDEM_TITULO = Comparator
+                .comparing(Registro::titulo, String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(Registro::id);
+
+        private final ByteBuffer buffer;
+        private final ByteBuffer dados;
+        private final int fim;
+        private final int bytesVivos;
+        private final int[] todos;
+        private final int[] ativos;
+        private final int[][] ativosPorTipo;
+        private final long[] idsOrdenados;
+        private final int[] indicesPorId;
+
+        /**
+         * @param fim fim da área gravada do buffer
+         * @param bytesVivos bytes ocupados pelos registros de {@code todos}
+         * @param todos offsets de todos os registros, na ordem de título
+         * @param idsOrdenados IDs em ordem crescente
+         * @param indicesPorId posição em {@code todos} do registro de cada posição de {@code idsOrdenados}
+         */
+        private Snapshot(ByteBuffer buffer, int fim, int bytesVivos, int[] todos,
+                         long[] idsOrdenados, int[] indicesPorId) {
+            this.buffer = buffer;
+            this.dados = buffer.asReadOnlyBuffer();
+            this.fim = fim;
+            this.bytesVivos = bytesVivos;
+            this.todos = todos;
+            this.idsOrdenados = idsOrdenados;
+            this.indicesPorId = indicesPorId;
+            this.ativos = Arrays.stream(todos)
+                    .filter(this::isAtivo)
+                    .toArray();
+            this.ativosPorTipo = new int[TipoItem.values().length][];
+            for (TipoItem tipo : TipoItem.values()) {
+                ativosPorTipo[tipo.ordinal()] = Arrays.stream(ativos)
+                        .filter(offset -> this.dados.get(offset + Long.BYTES) == tipo.ordinal())
+                        .toArray();
+            }
+        }
+
+        static Snapshot codificar(Collection<Registro> registros) {
+            List<Registro> ordenados = new ArrayList<>(registros);
+            ordenados.sort(ORDEM_TITULO);
+
+            byte[][] titulos = new byte[ordenados.size()][];
+            int tamanho = 0;
+            for (int i = 0; i < ordenados.size(); i++) {
+                titulos[i] = ordenados.get(i).titulo().getBytes(StandardCharsets.UTF_8);
+                tamanho += tamanho(ordenados.get(i), titulos[i]);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(capacidadePara(tamanho));
+            int[] offsets = new int[ordenados.size()];
+            long[] ids = new long[ordenados.size()];
+            for (int i = 0; i < ordenados.size(); i++) {
+                offsets[i] = buffer.position();
+                ids[i] = ordenados.get(i).id();
+                escrever(buffer, ordenados.get(i), titulos[i]);
+            }
+
+            long[] idsOrdenados = ids.clone();
+            Arrays.sort(idsOrdenados);
+            return new Snapshot(buffer, tamanho, tamanho, offsets, idsOrdenados, posicoesPorId(ids, idsOrdenados));
+        }
+
+        /**
+         * Gera um novo snapshot com os registros alterados (vazio = removido).
+         *
+         * Só os registros alterados são codificados, depois de {@link #fim}; a
+         * posição de cada um na ordem de título vem de uma busca binária, e os
+         * registros inalterados mantêm seus offsets (a não ser na compactação).
+         */
+        Snapshot aplicar(Map<Long, Optional<Registro>> alteracoes) {
+            boolean[] descartados = new boolean[todos.length];
+            int quantidadeDescartados = 0;
+            int bytesDescartados = 0;
+            for (Long id : alteracoes.keySet()) {
+                int posicao = Arrays.binarySearch(idsOrdenados, id);
+                if (posicao >= 0) {
+                    int indice = indicesPorId[posicao];
+                    descartados[indice] = true;
+                    quantidadeDescartados++;
+                    bytesDescartados += tamanhoRegistro(todos[indice]);
+                }
+            }
+
+            List<Registro> inseridos = alteracoes.values().stream()
+                    .flatMap(Optional::stream)
+                    .sorted(ORDEM_TITULO)
+                    .toList();
+            int[] posicoes = new int[inseridos.size()];
+            byte[][] titulos = new byte[inseridos.size()][];
+            long[] idsInseridos = new long[inseridos.size()];
+            int bytesInseridos = 0;
+            for (int i = 0; i < inseridos.size(); i++) {
+                posicoes[i] = posicaoInsercao(inseridos.get(i));
+                titulos[i] = inseridos.get(i).titulo().getBytes(StandardCharsets.UTF_8);
+                idsInseridos[i] = inseridos.get(i).id();
+                bytesInseridos += tamanho(inseridos.get(i), titulos[i]);
+            }
+
+            int vivos = bytesVivos - bytesDescartados + bytesInseridos;
+            int necessario = fim + bytesInseridos;
+            boolean compactar = necessario > buffer.capacity() || necessario - vivos > vivos;
+            ByteBuffer destino;
+            if (compactar) {
+                destino = ByteBuffer.allocateDirect(capacidadePara(vivos));
+            } else {
+                destino = buffer.duplicate();
+                destino.position(fim);
+            }
+
+            int[] novoTodos = new int[todos.length - quantidadeDescartados + inseridos.size()];
+            int[] novoIndicePorIndice = new int[todos.length];
+            int[] indicesInseridos = new int[inseridos.size()];
+            int gravados = 0;
+            int proximo = 0;
+            int i = 0;
+            while (i < todos.length || proximo < inseridos.size()) {
+                if (proximo < inseridos.size() && posicoes[proximo] <= i) {
+                    indicesInseridos[proximo] = gravados;
+                    novoTodos[gravados++] = destino.position();
+                    escrever(destino, inseridos.get(proximo), titulos[proximo]);
+                    proximo++;
+                } else if (descartados[i]) {
+                    novoIndicePorIndice[i++] = -1;
+                } else if (compactar) {
+                    int tamanhoRegistro = tamanhoRegistro(todos[i]);
+                    novoTodos[gravados] = destino.position();
+                    destino.put(destino.position(), dados, todos[i], tamanhoRegistro);
+                    destino.position(destino.position() + tamanhoRegistro);
+                    novoIndicePorIndice[i++] = gravados++;
+                } else {
+                    novoTodos[gravados] = todos[i];
+                    novoIndicePorIndice[i++] = gravados++;
+                }
+            }
+
+            // IDs: mantidos (já em ordem) intercalados com os inseridos ordenados por ID
+            long[] idsInseridosOrdenados = idsInseridos.clone();
+            Arrays.sort(idsInseridosOrdenados);
+            int[] inseridosPorId = posicoesPorId(idsInseridos, idsInseridosOrdenados);
+
+            long[] novosIds = new long[novoTodos.length];
+            int[] novosIndicesPorId = new int[novoTodos.length];
+            int total = 0;
+            int proximoInserido = 0;
+            for (int k = 0; k <= idsOrdenados.length; k++) {
+                long id = k < idsOrdenados.length ? idsOrdenados[k] : Long.MAX_VALUE;
+                while (proximoInserido < idsInseridosOrdenados.length
+                        && (k == idsOrdenados.length || idsInseridosOrdenados[proximoInserido] < id)) {
+                    novosIds[total] = idsInseridosOrdenados[proximoInserido];
+                    novosIndicesPorId[total++] = indicesInseridos[inseridosPorId[proximoInserido++]];
+                }
+                if (k < idsOrdenados.length) {
+                    int novoIndice = novoIndicePorIndice[indicesPorId[k]];
+                    if (novoIndice >= 0) {
+                        novosIds[total] = id;
+                        novosIndicesPorId[total++] = novoIndice;
+                    }
+                }
+            }
+
+            return new Snapshot(compactar ? destino : buffer, destino.position(), vivos,
+                    novoTodos, novosIds, novosIndicesPorId);
+        }
+
+        /**
+         * Para cada posição de {@code idsOrdenados}, a posição do mesmo ID em {@code ids} (IDs únicos).
+         */
+        private static int[] posicoesPorId(long[] ids, long[] idsOrdenados) {
+            int[] posicoes = new int[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                posicoes[Arrays.binarySearch(idsOrdenados, ids[i])] = i;
+            }
+            return posicoes;
+        }
+
+        private static int capacidadePara(int tamanho) {
+            return (int) Math.min(Integer.MAX_VALUE, (long) tamanho + Math.max(tamanho / 2, FOLGA_MINIMA));
+        }
+
+        /**
+         * Posição, em {@link #todos}, antes da qual o registro deve ser inserido.
+         */
+        private int posicaoInsercao(Registro registro) {
+            int inicio = 0;
+            int fim = todos.length;
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                int offset = todos[meio];
+                int comparacao = String.CASE_INSENSITIVE_ORDER.compare(lerTitulo(offset), registro.titulo());
+                if (comparacao == 0) {
+                    comparacao = Long.compare(dados.getLong(offset), registro.id());
+                }
+                if (comparacao < 0) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+            return inicio;
+        }
+
+        private static int tamanho(Registro registro, byte[] titulo) {
+            return Long.BYTES + 2 + Integer.BYTES + Short.BYTES + titulo.length
+                    + Short.BYTES + Long.BYTES * registro.tagIds().size();
+        }
+
+        private static void escrever(ByteBuffer dados, Registro registro, byte[] titulo) {
+            dados.putLong(registro.id());
+            dados.put((byte) registro.tipo().ordinal());
+            dados.put((byte) (registro.ativo() ? 1 : 0));
+            dados.putInt(registro.dataLancamento() != null
+                    ? (int) registro.dataLancamento().toEpochDay() : SEM_DATA);
+            dados.putShort((short) titulo.length);
+            dados.put(titulo);
+            dados.putShort((short) registro.tagIds().size());
+            registro.tagIds().forEach(dados::putLong);
+        }
+
+        private int tamanhoRegistro(int offset) {
+            int posicao = offset + Long.BYTES + 2 + Integer.BYTES;
+            posicao += Short.BYTES + dados.getShort(posicao);
+            return posicao + Short.BYTES + Long.BYTES * dados.getShort(posicao) - offset;
+        }
+
+        private String lerTitulo(int offset) {
+            int posicao = offset + Long.BYTES + 2 + Integer.BYTES;
+            byte[] titulo = new byte[dados.getShort(posicao)];
+            dados.get(posicao + Short.BYTES, titulo);
+            return new String(titulo, StandardCharsets.UTF_8);
+        }
+
+        int localizar(Long id) {
+            int posicao = Arrays.binarySearch(idsOrdenados, id);
+            return posicao >= 0 ? todos[indicesPorId[posicao]] : -1;
+        }
+
+        Optional<Registro> buscar(Long id) {
+            int offset = localizar(id);
+            return offset >= 0 ? Optional.of(decodificar(offset)) : Optional.empty();
+        }
+
+        boolean isAtivo(int offset) {
+            return dados.get(offset + Long.BYTES + 1) == 1;
+        }
+
+        List<ItemResumoDTO> ler(int[] offsets, int pagina, int tamanhoPagina) {
+            long inicio = (long) pagina * tamanhoPagina;
+            if (tamanhoPagina <= 0 || inicio >= offsets.length) {
+                return List.of();
+            }
+            int fim = (int) Math.min(offsets.length, inicio + tamanhoPagina);
+            List<ItemResumoDTO> resumos = new ArrayList<>(fim - (int) inicio);
+            for (int i = (int) inicio; i < fim; i++) {
+                resumos.add(ler(offsets[i]));
+            }
+            return resumos;
+        }
+
+        ItemResumoDTO ler(int offset) {
+            Registro registro = decodificar(offset);
+            return new ItemResumoDTO(registro.id(), registro.titulo(), registro.tipo(),
+                    registro.dataLancamento(), registro.tagIds());
+        }
+
+        private Registro decodificar(int offset) {
+            int posicao = offset;
+            long id = dados.getLong(posicao);
+            posicao += Long.BYTES;
+            TipoItem tipo = TipoItem.values()[dados.get(posicao++)];
+            boolean ativo = dados.get(posicao++) == 1;
+            int diaEpoca = dados.getInt(posicao);
+            posicao += Integer.BYTES;
+            byte[] titulo = new byte[dados.getShort(posicao)];
+            posicao += Short.BYTES;
+            dados.get(posicao, titulo);
+            posicao += titulo.length;
+            long[] tagIds = new long[dados.getShort(posicao)];
+            posicao += Short.BYTES;
+            for (int i = 0; i < tagIds.length; i++) {
+                tagIds[i] = dados.getLong(posicao);
+                posicao += Long.BYTES;
+            }
+            return new Registro(id, new String(titulo, StandardCharsets.UTF_8), tipo,
+                    diaEpoca != SEM_DATA ? LocalDate.ofEpochDay(diaEpoca) : null, ativo,
+                    Arrays.stream(tagIds).boxed().toList());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ContagemFavoritosItemDTO;
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+import br.upf.ads175.critiquehub.entity.model.ContadorFavoritos;
+import br.upf.ads175.critiquehub.event.FavoritoAlterado;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.jboss.logging.Logger;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Contadores de favoritos por item e categoria ("N pessoas querem assistir").
+ *
+ * Os contadores são atualizados por um observador síncrono de {@link FavoritoAlterado},
+ * ou seja, na mesma transação que inclui, remove ou recategoriza o favorito: ou
+ * as duas gravações são confirmadas, ou nenhuma (um erro aqui desfaz também a
+ * alteração do favorito). Cada ajuste é um único MERGE relativo
+ * ({@code total = total + delta}, ou insere a linha com o delta), aceito por
+ * PostgreSQL e H2, como em contadores_visualizacao. Ajustes concorrentes de uma
+ * linha existente se serializam pelo bloqueio da linha. A exceção é a criação:
+ * se duas transações incluírem ao mesmo tempo o primeiro favorito de um mesmo
+ * par item/categoria, a segunda falha com violação de chave e é desfeita inteira,
+ * podendo ser repetida.
+ *
+ * Alterações feitas por fora do FavoritosService (cascata ao excluir usuário ou
+ * item) não passam pelo evento; a reconstrução periódica recalcula tudo a partir
+ * de lista_favoritos.
+ */
+@ApplicationScoped
+public class ContadoresFavoritosService {
+
+    private static final Logger LOG = Logger.getLogger(ContadoresFavoritosService.class);
+
+    /** Ajuste relativo de um contador (também usado por FavoritosInsercaoBenchmark). */
+    static final String MERGE_CONTADOR = """
+            MERGE INTO contadores_favoritos c
+            USING (VALUES (CAST(?1 AS BIGINT), CAST(?2 AS VARCHAR(50)), CAST(?3 AS BIGINT)))
+                  AS d (item_cultural_id, categoria, delta)
+               ON c.item_cultural_id = d.item_cultural_id AND c.categoria = d.categoria
+             WHEN MATCHED THEN
+                  UPDATE SET total = c.total + d.delta
+             WHEN NOT MATCHED THEN
+                  INSERT (item_cultural_id, categoria, total)
+                  VALUES (d.item_cultural_id, d.categoria, d.delta)
+            """;
+
+    @Inject
+    EntityManager entityManager;
+
+    // ========================================================================
+    // Consulta
+    // ========================================================================
+
+    /**
+     * Contagens de vários itens em uma única consulta (ex.: cards de uma listagem).
+     * Itens sem favoritos aparecem com todas as categorias zeradas.
+     */
+    public Map<Long, ContagemFavoritosItemDTO> contar(Collection<Long> itemIds) {
+        Set<Long> ids = new LinkedHashSet<>(itemIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Map<CategoriaFavorito, Long>> totais = new HashMap<>();
+        entityManager.createQuery(
+                "SELECT c.id.itemCulturalId, c.id.categoria, c.total FROM ContadorFavoritos c " +
+                "WHERE c.id.itemCulturalId IN :itemIds AND c.total > 0", Object[].class)
+                .setParameter("itemIds", ids)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .forEach(linha -> totais
+                        .computeIfAbsent((Long) linha[0], id -> new EnumMap<>(CategoriaFavorito.class))
+                        .put((CategoriaFavorito) linha[1], (Long) linha[2]));
+
+        Map<Long, ContagemFavoritosItemDTO> resultado = new HashMap<>();
+        for (Long itemId : ids) {
+            resultado.put(itemId, new ContagemFavoritosItemDTO(itemId, totais.getOrDefault(itemId, Map.of())));
+        }
+        return resultado;
+    }
+
+    public ContagemFavoritosItemDTO contar(Long itemId) {
+        return contar(Set.of(itemId)).get(itemId);
+    }
+
+    // ========================================================================
+    // Atualização
+    // ========================================================================
+
+    /**
+     * Observador síncrono: roda dentro da transação que disparou o evento.
+     */
+    void aoAlterarFavorito(@Observes FavoritoAlterado evento) {
+        if (evento.categoriaAnterior() == evento.categoriaAtual()) {
+            return;
+        }
+        if (evento.categoriaAnterior() != null) {
+            ajustar(evento.itemId(), evento.categoriaAnterior(), -1);
+        }
+        if (evento.categoriaAtual() != null) {
+            ajustar(evento.itemId(), evento.categoriaAtual(), 1);
+        }
+    }
+
+    private void ajustar(Long itemId, CategoriaFavorito categoria, long delta) {
+        entityManager.createNativeQuery(MERGE_CONTADOR)
+                .setParameter(1, itemId)
+                .setParameter(2, categoria.name())
+                .setParameter(3, delta)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ContadorFavoritos.class)
+                .executeUpdate();
+    }
+
+    // ========================================================================
+    // Reconstrução
+    // ========================================================================
+
+    @Scheduled(every = "${critiquehub.contadores-favoritos.reconstrucao:24h}", delayed = "1h",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reconstruirPeriodicamente() {
+        reconstruir();
+    }
+
+    /**
+     * Recalcula todos os contadores a partir de lista_favoritos.
+     *
+     * Dispensa bloqueio: favoritos confirmados depois da leitura ajustam as linhas
+     * já recriadas ao serem confirmados, e os que estavam em andamento seguram a
+     * exclusão até o fim e entram na contagem, que é lida em seguida.
+     */
+    @Transactional
+    public void reconstruir() {
+        int removidos = entityManager.createNativeQuery("DELETE FROM contadores_favoritos")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ContadorFavoritos.class)
+                .executeUpdate();
+        int inseridos = entityManager.createNativeQuery("""
+                INSERT INTO contadores_favoritos (item_cultural_id, categoria, total)
+                SELECT item_cultural_id, categoria, COUNT(*)
+                  FROM lista_favoritos
+                 GROUP BY item_cultural_id, categoria
+                """)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ContadorFavoritos.class)
+                .executeUpdate();
+        LOG.debugf("Contadores de favoritos reconstruídos: %d linhas removidas, %d gravadas", removidos, inseridos);
+    }
+}
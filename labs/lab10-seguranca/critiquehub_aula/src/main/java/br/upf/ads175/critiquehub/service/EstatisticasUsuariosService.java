@@ -0,0 +1,180 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+import br.upf.ads175.critiquehub.event.StatusUsuarioAlterado;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Contadores de usuários por status e de registros por dia.
+ *
+ * Os contadores são ajustados a cada {@link StatusUsuarioAlterado} confirmado
+ * (criação, mudança de status e remoção) e lidos em O(1), sem carregar usuários.
+ * Como alterações feitas fora do UsuarioService (ou em outra instância) não
+ * passam pelos eventos, uma reconciliação periódica recontabiliza tudo com
+ * GROUP BY e corrige eventuais desvios.
+ */
+@ApplicationScoped
+public class EstatisticasUsuariosService {
+
+    private static final Logger LOG = Logger.getLogger(EstatisticasUsuariosService.class);
+
+    @Inject
+    EntityManager entityManager;
+
+    private Map<StatusUsuario, Long> porStatus = new EnumMap<>(StatusUsuario.class);
+    private NavigableMap<LocalDate, Long> registrosPorDia = new TreeMap<>();
+
+    /**
+     * Eventos recebidos desde o início da recontagem; {@code null} fora dela.
+     * Protegida pelo monitor do serviço.
+     */
+    private List<StatusUsuarioAlterado> alteracoesDuranteReconciliacao;
+
+    // ========================================================================
+    // Manutenção
+    // ========================================================================
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reconciliar();
+    }
+
+    @Scheduled(every = "${critiquehub.estatisticas-usuarios.reconciliacao:1h}", delayed = "1h",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reconciliarPeriodicamente() {
+        reconciliar();
+    }
+
+    /**
+     * Recontabiliza os contadores a partir do banco e registra os desvios encontrados.
+     *
+     * A contagem é uma única consulta, e os eventos entregues a partir do seu
+     * início (confirmados depois dela, em geral) são guardados e reaplicados
+     * sobre o resultado antes da troca; só então a comparação com os contadores
+     * atuais indica um desvio real.
+     */
+    @Transactional
+    public void reconciliar() {
+        synchronized (this) {
+            alteracoesDuranteReconciliacao = new ArrayList<>();
+        }
+
+        Map<StatusUsuario, Long> contagemStatus = new EnumMap<>(StatusUsuario.class);
+        NavigableMap<LocalDate, Long> contagemDias = new TreeMap<>();
+        try {
+            entityManager.createQuery(
+                    "SELECT u.status, u.dataRegistro, COUNT(u) FROM Usuario u GROUP BY u.status, u.dataRegistro",
+                    Object[].class)
+                    .getResultList()
+                    .forEach(linha -> {
+                        contagemStatus.merge((StatusUsuario) linha[0], (Long) linha[2], Long::sum);
+                        if (linha[1] != null) {
+                            contagemDias.merge((LocalDate) linha[1], (Long) linha[2], Long::sum);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                alteracoesDuranteReconciliacao = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            alteracoesDuranteReconciliacao.forEach(evento -> aplicar(evento, contagemStatus, contagemDias));
+            alteracoesDuranteReconciliacao = null;
+            if (!porStatus.isEmpty() && (!semZeros(porStatus).equals(semZeros(contagemStatus))
+                    || !semZeros(registrosPorDia).equals(semZeros(contagemDias)))) {
+                LOG.infof("Contadores de usuários corrigidos: %s -> %s", porStatus, contagemStatus);
+            }
+            porStatus = contagemStatus;
+            registrosPorDia = contagemDias;
+        }
+    }
+
+    synchronized void aoAlterarStatus(@Observes(during = TransactionPhase.AFTER_SUCCESS) StatusUsuarioAlterado evento) {
+        aplicar(evento, porStatus, registrosPorDia);
+        if (alteracoesDuranteReconciliacao != null) {
+            alteracoesDuranteReconciliacao.add(evento);
+        }
+    }
+
+    private static void aplicar(StatusUsuarioAlterado evento, Map<StatusUsuario, Long> porStatus,
+                                Map<LocalDate, Long> registrosPorDia) {
+        if (evento.statusAnterior() == evento.statusAtual()) {
+            return;
+        }
+        if (evento.statusAnterior() != null) {
+            porStatus.merge(evento.statusAnterior(), -1L, Long::sum);
+        }
+        if (evento.statusAtual() != null) {
+            porStatus.merge(evento.statusAtual(), 1L, Long::sum);
+        }
+
+        if (evento.dataRegistro() != null) {
+            if (evento.statusAnterior() == null) {
+                registrosPorDia.merge(evento.dataRegistro(), 1L, Long::sum);
+            } else if (evento.statusAtual() == null) {
+                registrosPorDia.merge(evento.dataRegistro(), -1L, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Contadores que chegaram a zero pelos eventos equivalem a chaves ausentes na recontagem.
+     */
+    private static <K> Map<K, Long> semZeros(Map<K, Long> contadores) {
+        Map<K, Long> filtrado = new HashMap<>(contadores);
+        filtrado.values().removeIf(total -> total == 0L);
+        return filtrado;
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    public synchronized long contarPorStatus(StatusUsuario status) {
+        return porStatus.getOrDefault(status, 0L);
+    }
+
+    public long contarAtivos() {
+        return contarPorStatus(StatusUsuario.ATIVO);
+    }
+
+    public synchronized Map<StatusUsuario, Long> contarTodosPorStatus() {
+        Map<StatusUsuario, Long> copia = new EnumMap<>(StatusUsuario.class);
+        for (StatusUsuario status : StatusUsuario.values()) {
+            copia.put(status, porStatus.getOrDefault(status, 0L));
+        }
+        return copia;
+    }
+
+    /**
+     * Quantidade de usuários (ainda existentes) registrados no dia.
+     */
+    public synchronized long contarRegistrosNoDia(LocalDate dia) {
+        return registrosPorDia.getOrDefault(dia, 0L);
+    }
+
+    /**
+     * Registros por dia no período (inclusive), apenas dias com registros.
+     */
+    public synchronized NavigableMap<LocalDate, Long> contarRegistrosPorDia(LocalDate inicio, LocalDate fim) {
+        return new TreeMap<>(registrosPorDia.subMap(inicio, true, fim, true));
+    }
+}
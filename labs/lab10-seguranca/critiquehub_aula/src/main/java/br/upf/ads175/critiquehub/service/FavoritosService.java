@@ -1,11 +1,32 @@
 package br.upf.ads175.critiquehub.service;
 
+import br.upf.ads175.critiquehub.dto.FavoritoResumoDTO;
+import br.upf.ads175.critiquehub.dto.FavoritosDoUsuarioDTO;
+import br.upf.ads175.critiquehub.dto.ResumoFavoritosDTO;
+import br.upf.ads175.critiquehub.event.FavoritoAlterado;
 import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;import br.upf.ads175.critiquehub.entity.model.ItemCultural;import br.upf.ads175.critiquehub.entity.model.ListaFavoritos;import br.upf.ads175.critiquehub.entity.model.ListaFavoritosId;import br.upf.ads175.critiquehub.entity.model.Usuario;import jakarta.enterprise.context.ApplicationScoped;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class FavoritosService {
@@ -14,23 +35,70 @@ public class FavoritosService {
     private EntityManager entityManager;
 
     /**
-     * Adiciona um item aos favoritos do usuário
+     * Também mantém os contadores por item (ContadoresFavoritosService), na mesma transação.
+     */
+    @Inject
+    Event<FavoritoAlterado> favoritoAlterado;
+
+    /**
+     * Índice de favoritos por usuário, invalidado após cada alteração confirmada.
+     */
+    @Inject
+    @CacheName("favoritos-por-usuario")
+    Cache cacheFavoritos;
+
+    /** Inclusão sem consulta prévia (também usada por FavoritosInsercaoBenchmark). */
+    static final String INSERIR_FAVORITO = """
+            INSERT INTO lista_favoritos (usuario_id, item_cultural_id, data_adicao, categoria, observacoes)
+            VALUES (?1, ?2, ?3, ?4, ?5)
+            ON CONFLICT DO NOTHING
+            """;
+
+    /**
+     * Adiciona um item aos favoritos do usuário.
+     *
+     * Um único INSERT ... ON CONFLICT DO NOTHING (sem alvo, aceito por PostgreSQL e
+     * H2; o único conflito possível é a chave (usuario_id, item_cultural_id)): sem
+     * carregar usuário e item e sem consulta prévia de existência. Nenhuma linha
+     * inserida significa que o item já era favorito; violação de chave estrangeira
+     * significa usuário ou item inexistente (só então uma consulta identifica qual).
+     * Sem categoria, o favorito entra como QUERO_ASSISTIR, como em ListaFavoritos.
      */
     @Transactional
     public void adicionarAosFavoritos(Long usuarioId, Long itemId,
                                      CategoriaFavorito categoria, String observacoes) {
-        // Buscar entidades
-        Usuario usuario = buscarUsuarioOuFalhar(usuarioId);
-        ItemCultural item = buscarItemOuFalhar(itemId);
+        CategoriaFavorito categoriaEfetiva = categoria != null ? categoria : CategoriaFavorito.QUERO_ASSISTIR;
+        if (observacoes != null && observacoes.length() > 500) {
+            throw new IllegalArgumentException("Observações não podem exceder 500 caracteres");
+        }
 
-        // Verificar se já não é favorito
-        if (jaEhFavorito(usuarioId, itemId)) {
-            throw new IllegalStateException("Item já está na lista de favoritos");
+        int inseridos;
+        try {
+            inseridos = entityManager.createNativeQuery(INSERIR_FAVORITO)
+                    .setParameter(1, usuarioId)
+                    .setParameter(2, itemId)
+                    .setParameter(3, LocalDateTime.now())
+                    .setParameter(4, categoriaEfetiva.name())
+                    .setParameter(5, observacoes)
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedEntityClass(ListaFavoritos.class)
+                    .executeUpdate();
+        } catch (ConstraintViolationException e) {
+            if (e.getKind() != ConstraintViolationException.ConstraintKind.FOREIGN_KEY) {
+                throw e;
+            }
+            // A transação atual foi abortada pelo banco; a verificação roda em outra
+            QuarkusTransaction.requiringNew().run(() -> {
+                buscarUsuarioOuFalhar(usuarioId);
+                buscarItemOuFalhar(itemId);
+            });
+            throw e;
         }
 
-        // Criar e persistir o favorito
-        ListaFavoritos favorito = new ListaFavoritos(usuario, item, categoria, observacoes);
-        entityManager.persist(favorito);
+        if (inseridos == 0) {
+            throw new IllegalStateException("Item já está na lista de favoritos");
+        }
+        favoritoAlterado.fire(new FavoritoAlterado(usuarioId, itemId, null, categoriaEfetiva));
     }
 
     /**
@@ -43,6 +111,7 @@ public class FavoritosService {
 
         if (favorito != null) {
             entityManager.remove(favorito);
+            favoritoAlterado.fire(new FavoritoAlterado(usuarioId, itemId, favorito.getCategoria(), null));
             return true;
         }
         return false;
@@ -64,7 +133,8 @@ public class FavoritosService {
     }
 
     /**
-     * Lista todos os favoritos de um usuário
+     * Lista todos os favoritos de um usuário, com os itens carregados e sem limite.
+     * Para telas de perfil use {@link #resumirFavoritos} e {@link #listarResumoPorCategoria(Long, CategoriaFavorito, int, int)}.
      */
     public List<ListaFavoritos> listarTodosFavoritos(Long usuarioId) {
         return entityManager.createQuery(
@@ -76,6 +146,76 @@ public class FavoritosService {
             .getResultList();
     }
 
+    private static final String SELECAO_RESUMO =
+        "SELECT new br.upf.ads175.critiquehub.dto.FavoritoResumoDTO(" +
+        "i.id, i.titulo, i.tipo, lf.categoria, lf.dataAdicao) " +
+        "FROM ListaFavoritos lf JOIN lf.itemCultural i ";
+
+    /**
+     * Lista favoritos de um usuário por categoria (projeção para telas de listagem)
+     */
+    public List<FavoritoResumoDTO> listarResumoPorCategoria(Long usuarioId, CategoriaFavorito categoria) {
+        return entityManager.createQuery(
+            SELECAO_RESUMO +
+            "WHERE lf.id.usuarioId = :usuarioId " +
+            "AND lf.categoria = :categoria " +
+            "ORDER BY lf.dataAdicao DESC", FavoritoResumoDTO.class)
+            .setParameter("usuarioId", usuarioId)
+            .setParameter("categoria", categoria)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultList();
+    }
+
+    /**
+     * Lista todos os favoritos de um usuário (projeção para telas de listagem)
+     */
+    public List<FavoritoResumoDTO> listarResumoTodos(Long usuarioId) {
+        return entityManager.createQuery(
+            SELECAO_RESUMO +
+            "WHERE lf.id.usuarioId = :usuarioId " +
+            "ORDER BY lf.categoria, lf.dataAdicao DESC", FavoritoResumoDTO.class)
+            .setParameter("usuarioId", usuarioId)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultList();
+    }
+
+    /**
+     * Quantidade de favoritos do usuário por categoria, em um único GROUP BY
+     * (sem carregar itens nem inicializar {@code Usuario.favoritos}).
+     */
+    public ResumoFavoritosDTO resumirFavoritos(Long usuarioId) {
+        Map<CategoriaFavorito, Long> totalPorCategoria = new EnumMap<>(CategoriaFavorito.class);
+        entityManager.createQuery(
+            "SELECT lf.categoria, COUNT(lf) FROM ListaFavoritos lf " +
+            "WHERE lf.id.usuarioId = :usuarioId " +
+            "GROUP BY lf.categoria", Object[].class)
+            .setParameter("usuarioId", usuarioId)
+            .getResultStream()
+            .forEach(linha -> totalPorCategoria.put((CategoriaFavorito) linha[0], (Long) linha[1]));
+        return new ResumoFavoritosDTO(usuarioId, totalPorCategoria);
+    }
+
+    /**
+     * Lista favoritos de um usuário por categoria com paginação (projeção), mais recentes primeiro.
+     *
+     * @param pagina número da página (base 0)
+     * @param tamanhoPagina quantidade de registros por página
+     */
+    public List<FavoritoResumoDTO> listarResumoPorCategoria(Long usuarioId, CategoriaFavorito categoria,
+                                                           int pagina, int tamanhoPagina) {
+        return entityManager.createQuery(
+            SELECAO_RESUMO +
+            "WHERE lf.id.usuarioId = :usuarioId " +
+            "AND lf.categoria = :categoria " +
+            "ORDER BY lf.dataAdicao DESC, i.id DESC", FavoritoResumoDTO.class)
+            .setParameter("usuarioId", usuarioId)
+            .setParameter("categoria", categoria)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .setFirstResult(pagina * tamanhoPagina)
+            .setMaxResults(tamanhoPagina)
+            .getResultList();
+    }
+
     /**
      * Atualiza categoria de um favorito
      */
@@ -88,8 +228,37 @@ public class FavoritosService {
             throw new IllegalArgumentException("Favorito não encontrado");
         }
 
+        CategoriaFavorito categoriaAnterior = favorito.getCategoria();
         favorito.setCategoria(novaCategoria);
         // EntityManager detecta a mudança automaticamente
+        favoritoAlterado.fire(new FavoritoAlterado(usuarioId, itemId, categoriaAnterior, novaCategoria));
+    }
+
+    /**
+     * Informa, em uma única chamada, quais dos itens são favoritos do usuário e em qual categoria.
+     * Pensado para renderização de listas: itens que não são favoritos não aparecem no mapa.
+     */
+    public Map<Long, CategoriaFavorito> verificarFavoritos(Long usuarioId, Collection<Long> itemIds) {
+        return buscarIndiceFavoritos(usuarioId).filtrar(itemIds);
+    }
+
+    /**
+     * Lista os IDs dos itens favoritos de um usuário em uma categoria.
+     */
+    public Set<Long> listarIdsPorCategoria(Long usuarioId, CategoriaFavorito categoria) {
+        return buscarIndiceFavoritos(usuarioId).itensPorCategoria().getOrDefault(categoria, Set.of());
+    }
+
+    /**
+     * Retorna o índice de favoritos do usuário, carregando-o do banco em caso de ausência no cache.
+     */
+    public FavoritosDoUsuarioDTO buscarIndiceFavoritos(Long usuarioId) {
+        return cacheFavoritos.get(usuarioId, this::carregarIndiceFavoritos)
+            .await().indefinitely();
+    }
+
+    void aoAlterarFavorito(@Observes(during = TransactionPhase.AFTER_SUCCESS) FavoritoAlterado evento) {
+        cacheFavoritos.invalidate(evento.usuarioId()).await().indefinitely();
     }
 
     // Métodos auxiliares privados
@@ -109,8 +278,13 @@ public class FavoritosService {
         return item;
     }
 
-    private boolean jaEhFavorito(Long usuarioId, Long itemId) {
-        ListaFavoritosId id = new ListaFavoritosId(usuarioId, itemId);
-        return entityManager.find(ListaFavoritos.class, id) != null;
+    private FavoritosDoUsuarioDTO carregarIndiceFavoritos(Long usuarioId) {
+        Map<Long, CategoriaFavorito> categoriaPorItem = entityManager.createQuery(
+            "SELECT lf.id.itemCulturalId, lf.categoria FROM ListaFavoritos lf " +
+            "WHERE lf.id.usuarioId = :usuarioId", Object[].class)
+            .setParameter("usuarioId", usuarioId)
+            .getResultStream()
+            .collect(Collectors.toMap(linha -> (Long) linha[0], linha -> (CategoriaFavorito) linha[1]));
+        return new FavoritosDoUsuarioDTO(usuarioId, categoriaPorItem);
     }
 }
@@ -0,0 +1,567 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ProgressoImportacaoDTO;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.entity.model.ImportacaoCatalogo;
+import br.upf.ads175.critiquehub.entity.model.Tag;
+import br.upf.ads175.critiquehub.event.CatalogoImportado;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.jboss.logging.Logger;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Importação em lote do catálogo a partir de arquivos JSON ou CSV.
+ *
+ * O arquivo é lido registro a registro (nunca carregado inteiro em memória) e
+ * gravado em lotes por uma {@link StatelessSession}: sem contexto de persistência,
+ * sem dirty checking e com inserts de itens e de item_cultural_tag em batches JDBC.
+ * As tags são resolvidas por um mapa nome → ID carregado uma vez; tags novas
+ * são criadas com {@code ON CONFLICT DO NOTHING}, como em {@link TagService#buscarOuCriar}.
+ *
+ * Cada lote é confirmado em sua própria transação junto com o ponto de controle
+ * ({@link ImportacaoCatalogo}); repetir a importação com o mesmo identificador
+ * retoma do primeiro registro não confirmado.
+ *
+ * Formatos aceitos:
+ * <ul>
+ *   <li>JSON: array de objetos {@code {titulo, tipo, dataLancamento, sinopse, tags: [..]}}</li>
+ *   <li>CSV: cabeçalho {@code titulo,tipo,data_lancamento,sinopse,tags}, com tags separadas por {@code |}</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class ImportacaoCatalogoService {
+
+    private static final Logger LOG = Logger.getLogger(ImportacaoCatalogoService.class);
+
+    private static final int TAMANHO_LOTE = 500;
+
+    public enum Formato { JSON, CSV }
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Event<CatalogoImportado> eventoCatalogoImportado;
+
+    /**
+     * Importa (ou retoma a importação de) um arquivo do catálogo.
+     *
+     * @param identificador identifica o arquivo; o mesmo valor retoma uma importação interrompida
+     * @param entrada conteúdo do arquivo (UTF-8)
+     * @param formato formato do arquivo
+     * @param aoProgredir notificado após cada lote confirmado (pode ser nulo)
+     * @return progresso final da importação
+     */
+    public ProgressoImportacaoDTO importar(String identificador, InputStream entrada, Formato formato,
+                                          Consumer<ProgressoImportacaoDTO> aoProgredir) {
+        if (identificador == null || identificador.isBlank()) {
+            throw new IllegalArgumentException("Identificador da importação é obrigatório");
+        }
+
+        ImportacaoCatalogo importacao = carregarOuIniciar(identificador.trim());
+        if (importacao.isConcluida()) {
+            LOG.infof("Importação '%s' já concluída; nada a fazer", importacao.getIdentificador());
+            return progresso(importacao);
+        }
+
+        long jaProcessados = importacao.getRegistrosProcessados();
+        long itensAntes = importacao.getItensImportados();
+        Map<String, Long> tagsAtivas = carregarTagsAtivas();
+        Set<String> tagsInativas = new HashSet<>();
+
+        try (LeitorCatalogo leitor = abrirLeitor(formato, entrada)) {
+            long posicao = 0;
+            List<RegistroImportacao> lote = new ArrayList<>(TAMANHO_LOTE);
+            RegistroImportacao registro;
+            while ((registro = leitor.proximo()) != null) {
+                if (++posicao <= jaProcessados) {
+                    continue;
+                }
+                lote.add(registro);
+                if (lote.size() == TAMANHO_LOTE) {
+                    gravarLote(importacao, lote, tagsAtivas, tagsInativas, aoProgredir);
+                    lote.clear();
+                }
+            }
+            gravarLote(importacao, lote, tagsAtivas, tagsInativas, aoProgredir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o arquivo da importação '" + identificador + "'", e);
+        }
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            try (StatelessSession sessao = sessionFactory.openStatelessSession()) {
+                importacao.concluir();
+                sessao.update(importacao);
+            }
+        });
+
+        LOG.infof("Importação '%s' concluída: %d registros, %d itens, %d tags novas, %d inválidos",
+                importacao.getIdentificador(), importacao.getRegistrosProcessados(),
+                importacao.getItensImportados(), importacao.getTagsCriadas(), importacao.getRegistrosInvalidos());
+
+        eventoCatalogoImportado.fire(new CatalogoImportado(importacao.getIdentificador(),
+                importacao.getItensImportados() - itensAntes));
+        return progresso(importacao);
+    }
+
+    // ========================================================================
+    // Gravação
+    // ========================================================================
+
+    private ImportacaoCatalogo carregarOuIniciar(String identificador) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            try (StatelessSession sessao = sessionFactory.openStatelessSession()) {
+                ImportacaoCatalogo existente = sessao.get(ImportacaoCatalogo.class, identificador);
+                if (existente != null) {
+                    LOG.infof("Retomando importação '%s' após %d registros",
+                            identificador, existente.getRegistrosProcessados());
+                    return existente;
+                }
+                ImportacaoCatalogo nova = new ImportacaoCatalogo(identificador);
+                sessao.insert(nova);
+                return nova;
+            }
+        });
+    }
+
+    private Map<String, Long> carregarTagsAtivas() {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            try (StatelessSession sessao = sessionFactory.openStatelessSession()) {
+                Map<String, Long> ids = new HashMap<>();
+                sessao.createQuery("SELECT t.nome, t.id FROM Tag t WHERE t.ativo = true", Object[].class)
+                        .getResultList()
+                        .forEach(linha -> ids.put((String) linha[0], (Long) linha[1]));
+                return ids;
+            }
+        });
+    }
+
+    private void gravarLote(ImportacaoCatalogo importacao, List<RegistroImportacao> lote,
+                            Map<String, Long> tagsAtivas, Set<String> tagsInativas,
+                            Consumer<ProgressoImportacaoDTO> aoProgredir) {
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        List<ItemValidado> itens = new ArrayList<>(lote.size());
+        for (RegistroImportacao registro : lote) {
+            ItemValidado item = validar(registro);
+            if (item != null) {
+                itens.add(item);
+            }
+        }
+        long invalidos = lote.size() - itens.size();
+
+        // Tags criadas neste lote só entram no mapa depois do commit
+        Map<String, Long> tagsNovas = new HashMap<>();
+        Set<String> inativasNovas = new HashSet<>();
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            tagsNovas.clear();
+            inativasNovas.clear();
+            try (StatelessSession sessao = sessionFactory.openStatelessSession()) {
+                sessao.doWork(conexao -> {
+                    resolverTags(conexao, itens, tagsAtivas, tagsInativas, tagsNovas, inativasNovas);
+                    inserirItens(conexao, itens);
+                    inserirAssociacoes(conexao, itens, tagsAtivas, tagsNovas);
+                });
+                importacao.registrarLote(lote.size(), itens.size(), tagsNovas.size(), invalidos);
+                sessao.update(importacao);
+            }
+        });
+
+        tagsAtivas.putAll(tagsNovas);
+        tagsInativas.addAll(inativasNovas);
+
+        ProgressoImportacaoDTO progresso = progresso(importacao);
+        LOG.debugf("Importação '%s': %d registros processados, %d itens importados",
+                progresso.identificador(), progresso.registrosProcessados(), progresso.itensImportados());
+        if (aoProgredir != null) {
+            aoProgredir.accept(progresso);
+        }
+    }
+
+    /**
+     * Cria as tags ainda desconhecidas do lote. Nomes que já pertencem a uma tag
+     * inativa não são reativados nem associados.
+     */
+    private void resolverTags(Connection conexao, List<ItemValidado> itens,
+                              Map<String, Long> tagsAtivas, Set<String> tagsInativas,
+                              Map<String, Long> tagsNovas, Set<String> inativasNovas) throws SQLException {
+        Set<String> desconhecidas = new LinkedHashSet<>();
+        for (ItemValidado item : itens) {
+            for (String nome : item.tags()) {
+                if (!tagsAtivas.containsKey(nome) && !tagsInativas.contains(nome)) {
+                    desconhecidas.add(nome);
+                }
+            }
+        }
+        if (desconhecidas.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement comando = conexao.prepareStatement("""
+                INSERT INTO tags (nome, cor, descricao, ativo, versao)
+                VALUES (?, ?, NULL, true, 0)
+                ON CONFLICT DO NOTHING
+                """)) {
+            for (String nome : desconhecidas) {
+                comando.setString(1, nome);
+                comando.setString(2, new Tag(nome).getCor());
+                comando.addBatch();
+            }
+            comando.executeBatch();
+        }
+
+        String marcadores = String.join(", ", Collections.nCopies(desconhecidas.size(), "?"));
+        try (PreparedStatement consulta = conexao.prepareStatement(
+                "SELECT id, nome, ativo FROM tags WHERE nome IN (" + marcadores + ")")) {
+            int indice = 1;
+            for (String nome : desconhecidas) {
+                consulta.setString(indice++, nome);
+            }
+            try (ResultSet linhas = consulta.executeQuery()) {
+                while (linhas.next()) {
+                    if (linhas.getBoolean("ativo")) {
+                        tagsNovas.put(linhas.getString("nome"), linhas.getLong("id"));
+                    } else {
+                        inativasNovas.add(linhas.getString("nome"));
+                    }
+                }
+            }
+        }
+    }
+
+    private void inserirItens(Connection conexao, List<ItemValidado> itens) throws SQLException {
+        if (itens.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement comando = conexao.prepareStatement("""
+                INSERT INTO itens_culturais (titulo, sinopse, data_lancamento, tipo, ativo, versao)
+                VALUES (?, ?, ?, ?, true, 0)
+                """, new String[] {"id"})) {
+            for (ItemValidado item : itens) {
+                comando.setString(1, item.titulo());
+                comando.setString(2, item.sinopse());
+                if (item.dataLancamento() != null) {
+                    comando.setObject(3, item.dataLancamento());
+                } else {
+                    comando.setNull(3, Types.DATE);
+                }
+                comando.setString(4, item.tipo().name());
+                comando.addBatch();
+            }
+            comando.executeBatch();
+
+            try (ResultSet chaves = comando.getGeneratedKeys()) {
+                for (ItemValidado item : itens) {
+                    if (!chaves.next()) {
+                        throw new SQLException("Driver não retornou os IDs gerados do lote de itens");
+                    }
+                    item.id = chaves.getLong(1);
+                }
+            }
+        }
+    }
+
+    private void inserirAssociacoes(Connection conexao, List<ItemValidado> itens,
+                                    Map<String, Long> tagsAtivas, Map<String, Long> tagsNovas) throws SQLException {
+        try (PreparedStatement comando = conexao.prepareStatement(
+                "INSERT INTO item_cultural_tag (item_cultural_id, tag_id) VALUES (?, ?)")) {
+            int pendentes = 0;
+            for (ItemValidado item : itens) {
+                for (String nome : item.tags()) {
+                    Long tagId = tagsAtivas.getOrDefault(nome, tagsNovas.get(nome));
+                    if (tagId == null) {
+                        continue;
+                    }
+                    comando.setLong(1, item.id);
+                    comando.setLong(2, tagId);
+                    comando.addBatch();
+                    pendentes++;
+                }
+            }
+            if (pendentes > 0) {
+                comando.executeBatch();
+            }
+        }
+    }
+
+    private static ProgressoImportacaoDTO progresso(ImportacaoCatalogo importacao) {
+        return new ProgressoImportacaoDTO(importacao.getIdentificador(), importacao.getRegistrosProcessados(),
+                importacao.getItensImportados(), importacao.getTagsCriadas(),
+                importacao.getRegistrosInvalidos(), importacao.isConcluida());
+    }
+
+    // ========================================================================
+    // Validação
+    // ========================================================================
+
+    /**
+     * Registro como lido do arquivo, ainda sem validação.
+     */
+    @RegisterForReflection
+    record RegistroImportacao(String titulo, String tipo, String dataLancamento, String sinopse, List<String> tags) {
+    }
+
+    /**
+     * Registro validado e pronto para inserção; o ID é preenchido após o insert.
+     */
+    private static final class ItemValidado {
+        private final String titulo;
+        private final String sinopse;
+        private final LocalDate dataLancamento;
+        private final TipoItem tipo;
+        private final Set<String> tags;
+        private Long id;
+
+        ItemValidado(String titulo, String sinopse, LocalDate dataLancamento, TipoItem tipo, Set<String> tags) {
+            this.titulo = titulo;
+            this.sinopse = sinopse;
+            this.dataLancamento = dataLancamento;
+            this.tipo = tipo;
+            this.tags = tags;
+        }
+
+        String titulo() { return titulo; }
+        String sinopse() { return sinopse; }
+        LocalDate dataLancamento() { return dataLancamento; }
+        TipoItem tipo() { return tipo; }
+        Set<String> tags() { return tags; }
+    }
+
+    /**
+     * Aplica as mesmas regras das anotações de {@code ItemCultural} e {@code Tag}.
+     *
+     * @return item validado, ou {@code null} se o registro for inválido
+     */
+    private ItemValidado validar(RegistroImportacao registro) {
+        String titulo = registro.titulo() != null ? registro.titulo().trim() : "";
+        if (titulo.isEmpty() || titulo.length() > 200) {
+            LOG.debugf("Registro ignorado: título inválido '%s'", registro.titulo());
+            return null;
+        }
+
+        TipoItem tipo;
+        try {
+            tipo = TipoItem.valueOf(registro.tipo() != null ? registro.tipo().trim().toUpperCase() : "");
+        } catch (IllegalArgumentException e) {
+            LOG.debugf("Registro '%s' ignorado: tipo inválido '%s'", titulo, registro.tipo());
+            return null;
+        }
+
+        LocalDate dataLancamento = null;
+        if (registro.dataLancamento() != null && !registro.dataLancamento().isBlank()) {
+            try {
+                dataLancamento = LocalDate.parse(registro.dataLancamento().trim());
+            } catch (DateTimeParseException e) {
+                LOG.debugf("Registro '%s' ignorado: data inválida '%s'", titulo, registro.dataLancamento());
+                return null;
+            }
+        }
+
+        String sinopse = registro.sinopse() != null && !registro.sinopse().isBlank() ? registro.sinopse().trim() : null;
+        if (sinopse != null && sinopse.length() > 2000) {
+            LOG.debugf("Registro '%s' ignorado: sinopse com mais de 2000 caracteres", titulo);
+            return null;
+        }
+
+        Set<String> tags = new LinkedHashSet<>();
+        if (registro.tags() != null) {
+            for (String nome : registro.tags()) {
+                // "drama||terror" no CSV ou null/"" no JSON: ignora a tag, não o registro
+                if (nome == null || nome.isBlank()) {
+                    continue;
+                }
+                String normalizado = Tag.normalizarNome(nome);
+                if (normalizado.length() >= 2 && normalizado.length() <= 50) {
+                    tags.add(normalizado);
+                }
+            }
+        }
+
+        return new ItemValidado(titulo, sinopse, dataLancamento, tipo, tags);
+    }
+
+    // ========================================================================
+    // Leitura Incremental
+    // ========================================================================
+
+    private LeitorCatalogo abrirLeitor(Formato formato, InputStream entrada) throws IOException {
+        return switch (formato) {
+            case JSON -> new LeitorJson(objectMapper, entrada);
+            case CSV -> new LeitorCsv(entrada);
+        };
+    }
+
+    private interface LeitorCatalogo extends Closeable {
+
+        /**
+         * @return próximo registro, ou {@code null} no fim do arquivo
+         */
+        RegistroImportacao proximo() throws IOException;
+    }
+
+    /**
+     * Lê um array JSON de objetos, desserializando um elemento por vez.
+     */
+    private static final class LeitorJson implements LeitorCatalogo {
+
+        private final ObjectMapper objectMapper;
+        private final JsonParser parser;
+
+        LeitorJson(ObjectMapper objectMapper, InputStream entrada) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(entrada);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Arquivo JSON deve conter um array de itens");
+            }
+        }
+
+        @Override
+        public RegistroImportacao proximo() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            return objectMapper.readValue(parser, RegistroImportacao.class);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    /**
+     * Lê um CSV (separador vírgula, campos entre aspas duplas com {@code ""} para
+     * aspas literais) linha a linha. As colunas são localizadas pelo cabeçalho.
+     */
+    private static final class LeitorCsv implements LeitorCatalogo {
+
+        private final BufferedReader leitor;
+        private final int colunaTitulo;
+        private final int colunaTipo;
+        private final int colunaData;
+        private final int colunaSinopse;
+        private final int colunaTags;
+
+        LeitorCsv(InputStream entrada) throws IOException {
+            this.leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+            List<String> cabecalho = lerCampos();
+            if (cabecalho == null) {
+                throw new IOException("Arquivo CSV vazio");
+            }
+            List<String> colunas = cabecalho.stream().map(c -> c.trim().toLowerCase()).toList();
+            this.colunaTitulo = colunas.indexOf("titulo");
+            this.colunaTipo = colunas.indexOf("tipo");
+            this.colunaData = colunas.indexOf("data_lancamento");
+            this.colunaSinopse = colunas.indexOf("sinopse");
+            this.colunaTags = colunas.indexOf("tags");
+            if (colunaTitulo < 0 || colunaTipo < 0) {
+                throw new IOException("Cabeçalho CSV deve conter as colunas 'titulo' e 'tipo'");
+            }
+        }
+
+        @Override
+        public RegistroImportacao proximo() throws IOException {
+            List<String> campos = lerCampos();
+            if (campos == null) {
+                return null;
+            }
+            String tags = campo(campos, colunaTags);
+            return new RegistroImportacao(campo(campos, colunaTitulo), campo(campos, colunaTipo),
+                    campo(campos, colunaData), campo(campos, colunaSinopse),
+                    tags != null ? Arrays.asList(tags.split("\\|")) : List.of());
+        }
+
+        private static String campo(List<String> campos, int coluna) {
+            return coluna >= 0 && coluna < campos.size() ? campos.get(coluna) : null;
+        }
+
+        /**
+         * Lê um registro, que pode ocupar várias linhas se houver quebras entre aspas.
+         */
+        private List<String> lerCampos() throws IOException {
+            int caractere = leitor.read();
+            while (caractere == '\r' || caractere == '\n') {
+                caractere = leitor.read();
+            }
+            if (caractere == -1) {
+                return null;
+            }
+
+            List<String> campos = new ArrayList<>();
+            StringBuilder atual = new StringBuilder();
+            boolean entreAspas = false;
+            while (caractere != -1) {
+                if (entreAspas) {
+                    if (caractere == '"') {
+                        leitor.mark(1);
+                        if (leitor.read() == '"') {
+                            atual.append('"');
+                        } else {
+                            leitor.reset();
+                            entreAspas = false;
+                        }
+                    } else {
+                        atual.append((char) caractere);
+                    }
+                } else if (caractere == '"') {
+                    entreAspas = true;
+                } else if (caractere == ',') {
+                    campos.add(atual.toString());
+                    atual.setLength(0);
+                } else if (caractere == '\n' || caractere == '\r') {
+                    break;
+                } else {
+                    atual.append((char) caractere);
+                }
+                caractere = leitor.read();
+            }
+            campos.add(atual.toString());
+            return campos;
+        }
+
+        @Override
+        public void close() throws IOException {
+            leitor.close();
+        }
+    }
+}
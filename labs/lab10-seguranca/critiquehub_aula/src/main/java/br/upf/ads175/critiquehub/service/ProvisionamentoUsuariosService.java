@@ -0,0 +1,303 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ResultadoProvisionamentoDTO;
+import br.upf.ads175.critiquehub.dto.ResultadoProvisionamentoDTO.Situacao;
+import br.upf.ads175.critiquehub.dto.UsuarioProvisionamentoDTO;
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import br.upf.ads175.critiquehub.event.CredenciaisUsuarioAlteradas;
+import br.upf.ads175.critiquehub.event.StatusUsuarioAlterado;
+import br.upf.ads175.critiquehub.event.UsuarioAlterado;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.exception.ConstraintViolationException;
+import org.jboss.logging.Logger;
+
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Provisionamento de usuários em lote.
+ *
+ * Em vez de dois COUNT e um INSERT por usuário (como em {@link UsuarioService#criarUsuario}),
+ * o lote inteiro é normalizado e deduplicado em memória; depois, a cada bloco de
+ * {@value #TAMANHO_LOTE} linhas, uma única consulta traz os emails e nomes de usuário
+ * já cadastrados e os restantes são inseridos em batch JDBC (usuários e roles).
+ *
+ * Cada bloco é confirmado em sua própria transação. Se um cadastro concorrente
+ * violar a unicidade no meio do bloco, o bloco é refeito uma vez com a consulta
+ * de existentes atualizada.
+ *
+ * Os usuários são criados ATIVOS e com a senha bloqueada: {@code "!"} seguido de 32
+ * caracteres aleatórios, que não é um hash bcrypt (nunca confere) mas satisfaz as
+ * restrições de {@code Usuario.senha}, validadas a cada atualização da entidade.
+ * O acesso começa depois da definição da senha ({@link UsuarioService#alterarSenha}).
+ */
+@ApplicationScoped
+public class ProvisionamentoUsuariosService {
+
+    private static final Logger LOG = Logger.getLogger(ProvisionamentoUsuariosService.class);
+
+    private static final int TAMANHO_LOTE = 500;
+    private static final String PREFIXO_SENHA_BLOQUEADA = "!";
+    private static final int BYTES_SENHA_BLOQUEADA = 24;
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Event<CredenciaisUsuarioAlteradas> credenciaisAlteradas;
+
+    @Inject
+    Event<StatusUsuarioAlterado> statusAlterado;
+
+    @Inject
+    Event<UsuarioAlterado> usuarioAlterado;
+
+    /**
+     * Provisiona os usuários informados.
+     *
+     * @param usuarios linhas do lote
+     * @param roles roles atribuídas a todos os usuários criados
+     * @return um resultado por linha, na mesma ordem do lote
+     */
+    public List<ResultadoProvisionamentoDTO> provisionar(List<UsuarioProvisionamentoDTO> usuarios, Set<String> roles) {
+        ResultadoProvisionamentoDTO[] resultados = new ResultadoProvisionamentoDTO[usuarios.size()];
+        List<Candidato> candidatos = new ArrayList<>(usuarios.size());
+        Set<String> emails = new HashSet<>();
+        Set<String> nomes = new HashSet<>();
+
+        for (int linha = 0; linha < usuarios.size(); linha++) {
+            UsuarioProvisionamentoDTO usuario = usuarios.get(linha);
+            String erro = validar(usuario);
+            if (erro != null) {
+                resultados[linha] = new ResultadoProvisionamentoDTO(linha, usuario != null ? usuario.email() : null,
+                        usuario != null ? usuario.nomeUsuario() : null, Situacao.INVALIDO, null, erro);
+                continue;
+            }
+
+            Candidato candidato = new Candidato(linha, Usuario.normalizarEmail(usuario.email()),
+                    usuario.nomeUsuario().trim(), usuario.nomeCompleto().trim());
+            if (emails.contains(candidato.email)) {
+                resultados[linha] = recusado(candidato, Situacao.DUPLICADO_NO_LOTE, "Email repetido no lote: " + candidato.email);
+            } else if (nomes.contains(candidato.chaveNome())) {
+                resultados[linha] = recusado(candidato, Situacao.DUPLICADO_NO_LOTE, "Nome de usuário repetido no lote: " + candidato.nomeUsuario);
+            } else {
+                emails.add(candidato.email);
+                nomes.add(candidato.chaveNome());
+                candidatos.add(candidato);
+            }
+        }
+
+        Set<String> rolesIniciais = roles != null ? Set.copyOf(roles) : Set.of();
+        int criados = 0;
+        for (int inicio = 0; inicio < candidatos.size(); inicio += TAMANHO_LOTE) {
+            List<Candidato> lote = candidatos.subList(inicio, Math.min(inicio + TAMANHO_LOTE, candidatos.size()));
+            criados += gravarLote(lote, rolesIniciais, resultados);
+        }
+
+        LOG.infof("Provisionamento: %d linhas, %d usuários criados", usuarios.size(), criados);
+        return Arrays.asList(resultados);
+    }
+
+    private int gravarLote(List<Candidato> lote, Set<String> roles, ResultadoProvisionamentoDTO[] resultados) {
+        try {
+            return QuarkusTransaction.requiringNew().call(() -> gravarLoteNaTransacao(lote, roles, resultados));
+        } catch (ConstraintViolationException e) {
+            LOG.debugf("Cadastro concorrente durante o provisionamento (%s); refazendo o bloco", e.getConstraintName());
+            lote.forEach(candidato -> candidato.id = null);
+            return QuarkusTransaction.requiringNew().call(() -> gravarLoteNaTransacao(lote, roles, resultados));
+        }
+    }
+
+    private int gravarLoteNaTransacao(List<Candidato> lote, Set<String> roles, ResultadoProvisionamentoDTO[] resultados) {
+        List<Candidato> novos;
+        try (StatelessSession sessao = sessionFactory.openStatelessSession()) {
+            novos = sessao.doReturningWork(conexao -> {
+                List<Candidato> restantes = descartarExistentes(conexao, lote, resultados);
+                inserirUsuarios(conexao, restantes);
+                inserirRoles(conexao, restantes, roles);
+                return restantes;
+            });
+        }
+
+        for (Candidato candidato : novos) {
+            resultados[candidato.linha] = new ResultadoProvisionamentoDTO(candidato.linha, candidato.email,
+                    candidato.nomeUsuario, Situacao.CRIADO, candidato.id, null);
+            credenciaisAlteradas.fire(new CredenciaisUsuarioAlteradas(candidato.nomeUsuario));
+            statusAlterado.fire(new StatusUsuarioAlterado(candidato.id, null, StatusUsuario.ATIVO, candidato.dataRegistro));
+            usuarioAlterado.fire(new UsuarioAlterado(candidato.id, candidato.nomeUsuario, candidato.nomeCompleto,
+                    StatusUsuario.ATIVO, false));
+        }
+        return novos.size();
+    }
+
+    /**
+     * Uma consulta por bloco: emails e nomes de usuário do bloco que já existem no banco.
+     */
+    private List<Candidato> descartarExistentes(Connection conexao, List<Candidato> lote,
+                                                ResultadoProvisionamentoDTO[] resultados) throws SQLException {
+        Set<String> emailsExistentes = new HashSet<>();
+        Set<String> nomesExistentes = new HashSet<>();
+        String marcadores = String.join(", ", Collections.nCopies(lote.size(), "?"));
+        try (PreparedStatement consulta = conexao.prepareStatement(
+                "SELECT email, LOWER(nome_usuario) FROM usuarios " +
+                "WHERE email IN (" + marcadores + ") OR LOWER(nome_usuario) IN (" + marcadores + ")")) {
+            int indice = 1;
+            for (Candidato candidato : lote) {
+                consulta.setString(indice++, candidato.email);
+            }
+            for (Candidato candidato : lote) {
+                consulta.setString(indice++, candidato.chaveNome());
+            }
+            try (ResultSet linhas = consulta.executeQuery()) {
+                while (linhas.next()) {
+                    emailsExistentes.add(linhas.getString(1));
+                    nomesExistentes.add(linhas.getString(2));
+                }
+            }
+        }
+
+        List<Candidato> restantes = new ArrayList<>(lote.size());
+        for (Candidato candidato : lote) {
+            if (emailsExistentes.contains(candidato.email)) {
+                resultados[candidato.linha] = recusado(candidato, Situacao.JA_CADASTRADO,
+                        "Email já está em uso: " + candidato.email);
+            } else if (nomesExistentes.contains(candidato.chaveNome())) {
+                resultados[candidato.linha] = recusado(candidato, Situacao.JA_CADASTRADO,
+                        "Nome de usuário já está em uso: " + candidato.nomeUsuario);
+            } else {
+                restantes.add(candidato);
+            }
+        }
+        return restantes;
+    }
+
+    private void inserirUsuarios(Connection conexao, List<Candidato> novos) throws SQLException {
+        if (novos.isEmpty()) {
+            return;
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        try (PreparedStatement comando = conexao.prepareStatement("""
+                INSERT INTO usuarios (email, nome_usuario, senha, nome_completo, data_registro, status,
+                                      perfil_publico, ativo, criado_em, atualizado_em, versao)
+                VALUES (?, ?, ?, ?, ?, ?, true, true, ?, ?, 0)
+                """, new String[] {"id"})) {
+            for (Candidato candidato : novos) {
+                candidato.dataRegistro = agora.toLocalDate();
+                comando.setString(1, candidato.email);
+                comando.setString(2, candidato.nomeUsuario);
+                comando.setString(3, gerarSenhaBloqueada());
+                comando.setString(4, candidato.nomeCompleto);
+                comando.setObject(5, candidato.dataRegistro);
+                comando.setString(6, StatusUsuario.ATIVO.name());
+                comando.setObject(7, agora);
+                comando.setObject(8, agora);
+                comando.addBatch();
+            }
+            comando.executeBatch();
+
+            try (ResultSet chaves = comando.getGeneratedKeys()) {
+                for (Candidato candidato : novos) {
+                    if (!chaves.next()) {
+                        throw new SQLException("Driver não retornou os IDs gerados do lote de usuários");
+                    }
+                    candidato.id = chaves.getLong(1);
+                }
+            }
+        }
+    }
+
+    private static String gerarSenhaBloqueada() {
+        byte[] bytes = new byte[BYTES_SENHA_BLOQUEADA];
+        ALEATORIO.nextBytes(bytes);
+        return PREFIXO_SENHA_BLOQUEADA + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private void inserirRoles(Connection conexao, List<Candidato> novos, Set<String> roles) throws SQLException {
+        if (novos.isEmpty() || roles.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement comando = conexao.prepareStatement(
+                "INSERT INTO usuarios_roles (usuario_id, role) VALUES (?, ?)")) {
+            for (Candidato candidato : novos) {
+                for (String role : roles) {
+                    comando.setLong(1, candidato.id);
+                    comando.setString(2, role);
+                    comando.addBatch();
+                }
+            }
+            comando.executeBatch();
+        }
+    }
+
+    /**
+     * Mesmas regras de {@link UsuarioService#criarUsuario}; devolve a mensagem de erro ou {@code null}.
+     */
+    private static String validar(UsuarioProvisionamentoDTO usuario) {
+        if (usuario == null) {
+            return "Linha vazia";
+        }
+        if (usuario.email() == null || usuario.email().trim().isEmpty()) {
+            return "Email é obrigatório";
+        }
+        if (usuario.nomeUsuario() == null || usuario.nomeUsuario().trim().isEmpty()) {
+            return "Nome de usuário é obrigatório";
+        }
+        if (usuario.nomeCompleto() == null || usuario.nomeCompleto().trim().isEmpty()) {
+            return "Nome completo é obrigatório";
+        }
+        if (!usuario.email().contains("@")) {
+            return "Email deve ter formato válido";
+        }
+        if (usuario.nomeUsuario().trim().length() < 3) {
+            return "Nome de usuário deve ter pelo menos 3 caracteres";
+        }
+        return null;
+    }
+
+    private static ResultadoProvisionamentoDTO recusado(Candidato candidato, Situacao situacao, String mensagem) {
+        return new ResultadoProvisionamentoDTO(candidato.linha, candidato.email, candidato.nomeUsuario,
+                situacao, null, mensagem);
+    }
+
+    /**
+     * Linha válida do lote, já normalizada.
+     */
+    private static final class Candidato {
+        private final int linha;
+        private final String email;
+        private final String nomeUsuario;
+        private final String nomeCompleto;
+        private Long id;
+        private LocalDate dataRegistro;
+
+        Candidato(int linha, String email, String nomeUsuario, String nomeCompleto) {
+            this.linha = linha;
+            this.email = email;
+            this.nomeUsuario = nomeUsuario;
+            this.nomeCompleto = nomeCompleto;
+        }
+
+        String chaveNome() {
+            return Usuario.normalizarNomeUsuario(nomeUsuario);
+        }
+    }
+}
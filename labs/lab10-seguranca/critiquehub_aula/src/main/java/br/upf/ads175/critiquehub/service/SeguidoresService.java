@@ -0,0 +1,279 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.entity.model.Seguidor;
+import br.upf.ads175.critiquehub.entity.model.SeguidorId;
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import br.upf.ads175.critiquehub.event.SeguimentoAlterado;
+import br.upf.ads175.critiquehub.event.UsuarioAlterado;
+import br.upf.ads175.critiquehub.exception.EntidadeNaoEncontradaException;
+import br.upf.ads175.critiquehub.exception.RegraDeNegocioException;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.query.NativeQuery;
+import org.jboss.logging.Logger;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Relações "segue" entre usuários.
+ *
+ * Além da tabela {@code seguidores}, mantém o grafo em memória nos dois sentidos
+ * (seguidores e seguidos de cada usuário, em Roaring64Bitmap), usado pela
+ * distribuição das timelines sem consultar o banco a cada atividade publicada.
+ * O grafo é reconstruído na inicialização e mantido por {@link SeguimentoAlterado}.
+ */
+@ApplicationScoped
+public class SeguidoresService {
+
+    private static final Logger LOG = Logger.getLogger(SeguidoresService.class);
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    Event<SeguimentoAlterado> seguimentoAlterado;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Roaring64Bitmap> seguidoresPorUsuario = new HashMap<>();
+    private final Map<Long, Roaring64Bitmap> seguidosPorUsuario = new HashMap<>();
+
+    // ========================================================================
+    // Operações
+    // ========================================================================
+
+    /**
+     * Faz o usuário seguir outro.
+     *
+     * Um único INSERT ... ON CONFLICT DO NOTHING (sem alvo, aceito por PostgreSQL
+     * e H2), como em FavoritosService: nenhuma linha inserida significa que já
+     * seguia, e o evento só é disparado quando a relação é criada. Violação de
+     * chave estrangeira significa usuário inexistente (só então uma consulta
+     * identifica qual).
+     *
+     * @return {@code false} se já seguia
+     */
+    @Transactional
+    public boolean seguir(Long seguidorId, Long seguidoId) {
+        validar(seguidorId, seguidoId);
+
+        int inseridos;
+        try {
+            inseridos = entityManager.createNativeQuery("""
+                    INSERT INTO seguidores (seguidor_id, seguido_id, data_inicio)
+                    VALUES (?1, ?2, ?3)
+                    ON CONFLICT DO NOTHING
+                    """)
+                    .setParameter(1, seguidorId)
+                    .setParameter(2, seguidoId)
+                    .setParameter(3, LocalDateTime.now())
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedEntityClass(Seguidor.class)
+                    .executeUpdate();
+        } catch (ConstraintViolationException e) {
+            if (e.getKind() != ConstraintViolationException.ConstraintKind.FOREIGN_KEY) {
+                throw e;
+            }
+            // A transação atual foi abortada pelo banco; a verificação roda em outra
+            QuarkusTransaction.requiringNew().run(() -> {
+                for (Long id : new Long[] {seguidorId, seguidoId}) {
+                    if (entityManager.find(Usuario.class, id) == null) {
+                        throw new EntidadeNaoEncontradaException("Usuário não encontrado com ID: " + id);
+                    }
+                }
+            });
+            throw e;
+        }
+
+        if (inseridos == 0) {
+            return false;
+        }
+        seguimentoAlterado.fire(new SeguimentoAlterado(seguidorId, seguidoId, true));
+        return true;
+    }
+
+    /**
+     * Desfaz a relação.
+     *
+     * @return {@code false} se não seguia
+     */
+    @Transactional
+    public boolean deixarDeSeguir(Long seguidorId, Long seguidoId) {
+        Seguidor seguidor = entityManager.find(Seguidor.class, new SeguidorId(seguidorId, seguidoId));
+        if (seguidor == null) {
+            return false;
+        }
+
+        entityManager.remove(seguidor);
+        seguimentoAlterado.fire(new SeguimentoAlterado(seguidorId, seguidoId, false));
+        return true;
+    }
+
+    // ========================================================================
+    // Consultas (grafo em memória)
+    // ========================================================================
+
+    public boolean segue(Long seguidorId, Long seguidoId) {
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap seguidos = seguidosPorUsuario.get(seguidorId);
+            return seguidos != null && seguidos.contains(seguidoId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long contarSeguidores(Long usuarioId) {
+        return cardinalidade(seguidoresPorUsuario, usuarioId);
+    }
+
+    public long contarSeguidos(Long usuarioId) {
+        return cardinalidade(seguidosPorUsuario, usuarioId);
+    }
+
+    /**
+     * IDs dos seguidores do usuário (cópia).
+     */
+    public long[] listarSeguidores(Long usuarioId) {
+        return copia(seguidoresPorUsuario, usuarioId);
+    }
+
+    /**
+     * IDs dos usuários seguidos pelo usuário (cópia).
+     */
+    public long[] listarSeguidos(Long usuarioId) {
+        return copia(seguidosPorUsuario, usuarioId);
+    }
+
+    // ========================================================================
+    // Construção e Manutenção
+    // ========================================================================
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reconstruir();
+    }
+
+    /**
+     * Reconstrói o grafo a partir do banco.
+     */
+    @Transactional
+    public void reconstruir() {
+        lock.writeLock().lock();
+        try {
+            seguidoresPorUsuario.clear();
+            seguidosPorUsuario.clear();
+            long[] total = {0};
+            entityManager.createQuery(
+                    "SELECT s.id.seguidorId, s.id.seguidoId FROM Seguidor s", Object[].class)
+                    .getResultStream()
+                    .forEach(linha -> {
+                        adicionar((Long) linha[0], (Long) linha[1]);
+                        total[0]++;
+                    });
+            seguidoresPorUsuario.values().forEach(Roaring64Bitmap::runOptimize);
+            seguidosPorUsuario.values().forEach(Roaring64Bitmap::runOptimize);
+            LOG.debugf("Grafo de seguidores reconstruído: %d relações", total[0]);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void aoAlterarSeguimento(@Observes(during = TransactionPhase.AFTER_SUCCESS) SeguimentoAlterado evento) {
+        lock.writeLock().lock();
+        try {
+            if (evento.seguindo()) {
+                adicionar(evento.seguidorId(), evento.seguidoId());
+            } else {
+                remover(evento.seguidorId(), evento.seguidoId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Usuário excluído: as linhas saem do banco pelo ON DELETE CASCADE; aqui, do grafo.
+     */
+    void aoAlterarUsuario(@Observes(during = TransactionPhase.AFTER_SUCCESS) UsuarioAlterado evento) {
+        if (!evento.removido()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Long usuarioId = evento.usuarioId();
+            for (long seguido : copiaSemLock(seguidosPorUsuario, usuarioId)) {
+                remover(usuarioId, seguido);
+            }
+            for (long seguidor : copiaSemLock(seguidoresPorUsuario, usuarioId)) {
+                remover(seguidor, usuarioId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void adicionar(Long seguidorId, Long seguidoId) {
+        seguidosPorUsuario.computeIfAbsent(seguidorId, chave -> new Roaring64Bitmap()).addLong(seguidoId);
+        seguidoresPorUsuario.computeIfAbsent(seguidoId, chave -> new Roaring64Bitmap()).addLong(seguidorId);
+    }
+
+    private void remover(Long seguidorId, Long seguidoId) {
+        removerDoMapa(seguidosPorUsuario, seguidorId, seguidoId);
+        removerDoMapa(seguidoresPorUsuario, seguidoId, seguidorId);
+    }
+
+    private static void removerDoMapa(Map<Long, Roaring64Bitmap> mapa, Long chave, long valor) {
+        Roaring64Bitmap bitmap = mapa.get(chave);
+        if (bitmap != null) {
+            bitmap.removeLong(valor);
+            if (bitmap.isEmpty()) {
+                mapa.remove(chave);
+            }
+        }
+    }
+
+    private long cardinalidade(Map<Long, Roaring64Bitmap> mapa, Long usuarioId) {
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap bitmap = mapa.get(usuarioId);
+            return bitmap != null ? bitmap.getLongCardinality() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] copia(Map<Long, Roaring64Bitmap> mapa, Long usuarioId) {
+        lock.readLock().lock();
+        try {
+            return copiaSemLock(mapa, usuarioId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static long[] copiaSemLock(Map<Long, Roaring64Bitmap> mapa, Long usuarioId) {
+        Roaring64Bitmap bitmap = mapa.get(usuarioId);
+        return bitmap != null ? bitmap.toArray() : new long[0];
+    }
+
+    private void validar(Long seguidorId, Long seguidoId) {
+        if (seguidorId == null || seguidoId == null) {
+            throw new IllegalArgumentException("IDs dos usuários são obrigatórios");
+        }
+        if (seguidorId.equals(seguidoId)) {
+            throw new RegraDeNegocioException("Usuário não pode seguir a si mesmo");
+        }
+    }
+}
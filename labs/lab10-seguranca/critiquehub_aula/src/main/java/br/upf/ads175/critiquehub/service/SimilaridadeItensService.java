@@ -0,0 +1,349 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ItemSimilarDTO;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.event.CatalogoImportado;
+import br.upf.ads175.critiquehub.event.ItemCulturalAlterado;
+import br.upf.ads175.critiquehub.event.TagsDoItemAlteradas;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Índice de similaridade entre itens culturais ("mais como este").
+ *
+ * Cada item recebe uma assinatura MinHash do seu conjunto de tags. As assinaturas
+ * são divididas em faixas (LSH) e itens que coincidem em alguma faixa caem no
+ * mesmo balde; apenas esses candidatos têm o índice de Jaccard calculado, em vez
+ * de comparar o item com todo o catálogo.
+ *
+ * Com {@value #FAIXAS} faixas de {@value #LINHAS_POR_FAIXA} linhas, pares com
+ * Jaccard acima de ~0,5 viram candidatos com alta probabilidade.
+ */
+@ApplicationScoped
+public class SimilaridadeItensService {
+
+    private static final Logger LOG = Logger.getLogger(SimilaridadeItensService.class);
+
+    private static final int FAIXAS = 16;
+    private static final int LINHAS_POR_FAIXA = 4;
+    private static final int TAMANHO_ASSINATURA = FAIXAS * LINHAS_POR_FAIXA;
+    private static final long[] SEMENTES = gerarSementes();
+
+    @Inject
+    EntityManager entityManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Indice indice = new Indice();
+
+    /**
+     * Garante uma reconstrução por vez.
+     */
+    private final Object reconstrucao = new Object();
+
+    /**
+     * Eventos recebidos durante uma reconstrução, na ordem de chegada; {@code null}
+     * fora dela. Protegida pelo lock de escrita.
+     */
+    private List<Object> alteracoesDuranteReconstrucao;
+
+    // ========================================================================
+    // Construção e Manutenção
+    // ========================================================================
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reconstruir();
+    }
+
+    void aoImportarCatalogo(@Observes CatalogoImportado evento) {
+        reconstruir();
+    }
+
+    /**
+     * Reconstrói todas as assinaturas a partir do banco e substitui o índice atual.
+     *
+     * Alterações confirmadas enquanto o banco é lido podem não aparecer na
+     * leitura; elas são guardadas e reaplicadas, na ordem de chegada, sobre o
+     * índice novo antes da troca.
+     */
+    @Transactional
+    public void reconstruir() {
+        synchronized (reconstrucao) {
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteReconstrucao = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Map<Long, List<Long>> tagsPorItem = entityManager.createQuery(
+                    "SELECT i.id, t.id FROM ItemCultural i JOIN i.tags t", Object[].class)
+                    .getResultStream()
+                    .collect(Collectors.groupingBy(linha -> (Long) linha[0],
+                            Collectors.mapping(linha -> (Long) linha[1], Collectors.toList())));
+
+            Indice novo = new Indice();
+            entityManager.createQuery(
+                    "SELECT i.id, i.tipo, i.ativo FROM ItemCultural i", Object[].class)
+                    .getResultStream()
+                    .forEach(linha -> novo.indexar((Long) linha[0], new Entrada((TipoItem) linha[1],
+                            Boolean.TRUE.equals(linha[2]), tagsPorItem.getOrDefault((Long) linha[0], List.of()))));
+
+            lock.writeLock().lock();
+            try {
+                for (Object alteracao : alteracoesDuranteReconstrucao) {
+                    if (alteracao instanceof ItemCulturalAlterado item) {
+                        novo.aplicar(item);
+                    } else if (alteracao instanceof TagsDoItemAlteradas tags) {
+                        novo.aplicar(tags);
+                    }
+                }
+                alteracoesDuranteReconstrucao = null;
+                this.indice = novo;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LOG.debugf("Índice de similaridade reconstruído com %d itens", novo.itens.size());
+        }
+    }
+
+    void aoAlterarItem(@Observes(during = TransactionPhase.AFTER_SUCCESS) ItemCulturalAlterado evento) {
+        lock.writeLock().lock();
+        try {
+            indice.aplicar(evento);
+            registrarDuranteReconstrucao(evento);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void aoAlterarTags(@Observes(during = TransactionPhase.AFTER_SUCCESS) TagsDoItemAlteradas evento) {
+        lock.writeLock().lock();
+        try {
+            indice.aplicar(evento);
+            registrarDuranteReconstrucao(evento);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Deve ser chamado com o lock de escrita.
+     */
+    private void registrarDuranteReconstrucao(Object evento) {
+        if (alteracoesDuranteReconstrucao != null) {
+            alteracoesDuranteReconstrucao.add(evento);
+        }
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    /**
+     * Busca os itens ativos mais semelhantes ao item informado.
+     *
+     * @param itemId ID do item de referência
+     * @param tipo restringe ao tipo informado; {@code null} aceita qualquer tipo
+     * @param limite número máximo de itens
+     * @return itens semelhantes, do mais para o menos semelhante
+     */
+    public List<ItemSimilarDTO> buscarSimilares(Long itemId, TipoItem tipo, int limite) {
+        if (limite <= 0) {
+            return List.of();
+        }
+
+        Comparator<ItemSimilarDTO> ordem = Comparator
+                .comparingDouble(ItemSimilarDTO::similaridade)
+                .thenComparing(ItemSimilarDTO::itemId, Comparator.reverseOrder());
+        PriorityQueue<ItemSimilarDTO> melhores = new PriorityQueue<>(limite + 1, ordem);
+
+        lock.readLock().lock();
+        try {
+            Entrada referencia = indice.itens.get(itemId);
+            if (referencia == null || referencia.assinatura == null) {
+                return List.of();
+            }
+
+            Set<Long> candidatos = new HashSet<>();
+            for (int faixa = 0; faixa < FAIXAS; faixa++) {
+                candidatos.addAll(indice.baldes.get(faixa).getOrDefault(referencia.chaveDaFaixa(faixa), Set.of()));
+            }
+            candidatos.remove(itemId);
+
+            for (Long candidatoId : candidatos) {
+                Entrada candidato = indice.itens.get(candidatoId);
+                if (!candidato.ativo || (tipo != null && candidato.tipo != tipo)) {
+                    continue;
+                }
+                melhores.offer(new ItemSimilarDTO(candidatoId, jaccard(referencia.tagIds, candidato.tagIds)));
+                if (melhores.size() > limite) {
+                    melhores.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ItemSimilarDTO> resultado = new ArrayList<>(melhores);
+        resultado.sort(ordem.reversed());
+        return resultado;
+    }
+
+    // ========================================================================
+    // MinHash
+    // ========================================================================
+
+    /**
+     * Entradas por item e baldes LSH por faixa.
+     */
+    private static final class Indice {
+
+        private final Map<Long, Entrada> itens = new HashMap<>();
+        private final List<Map<Long, Set<Long>>> baldes = new ArrayList<>(FAIXAS);
+
+        Indice() {
+            for (int faixa = 0; faixa < FAIXAS; faixa++) {
+                baldes.add(new HashMap<>());
+            }
+        }
+
+        void aplicar(ItemCulturalAlterado evento) {
+            Entrada anterior = desindexar(evento.itemId());
+            if (!evento.removido()) {
+                indexar(evento.itemId(), new Entrada(evento.tipo(), evento.ativo(),
+                        anterior != null ? anterior.tagIds : new long[0]));
+            }
+        }
+
+        void aplicar(TagsDoItemAlteradas evento) {
+            Entrada anterior = desindexar(evento.itemId());
+            if (anterior != null) {
+                indexar(evento.itemId(), new Entrada(anterior.tipo, anterior.ativo, evento.tagIdsAtuais()));
+            }
+        }
+
+        void indexar(Long itemId, Entrada entrada) {
+            itens.put(itemId, entrada);
+            if (entrada.assinatura == null) {
+                return;
+            }
+            for (int faixa = 0; faixa < FAIXAS; faixa++) {
+                baldes.get(faixa).computeIfAbsent(entrada.chaveDaFaixa(faixa), chave -> new HashSet<>()).add(itemId);
+            }
+        }
+
+        Entrada desindexar(Long itemId) {
+            Entrada entrada = itens.remove(itemId);
+            if (entrada == null || entrada.assinatura == null) {
+                return entrada;
+            }
+            for (int faixa = 0; faixa < FAIXAS; faixa++) {
+                long chave = entrada.chaveDaFaixa(faixa);
+                Set<Long> balde = baldes.get(faixa).get(chave);
+                if (balde != null && balde.remove(itemId) && balde.isEmpty()) {
+                    baldes.get(faixa).remove(chave);
+                }
+            }
+            return entrada;
+        }
+    }
+
+    /**
+     * Estado indexado de um item: tipo, situação, tags ordenadas e assinatura
+     * MinHash (nula quando o item não tem tags).
+     */
+    private static final class Entrada {
+
+        private final TipoItem tipo;
+        private final boolean ativo;
+        private final long[] tagIds;
+        private final int[] assinatura;
+
+        Entrada(TipoItem tipo, boolean ativo, Collection<Long> tags) {
+            this(tipo, ativo, tags.stream().mapToLong(Long::longValue).sorted().distinct().toArray());
+        }
+
+        Entrada(TipoItem tipo, boolean ativo, long[] tagIdsOrdenados) {
+            this.tipo = tipo;
+            this.ativo = ativo;
+            this.tagIds = tagIdsOrdenados;
+            this.assinatura = tagIds.length > 0 ? calcularAssinatura(tagIds) : null;
+        }
+
+        long chaveDaFaixa(int faixa) {
+            long chave = faixa;
+            for (int linha = faixa * LINHAS_POR_FAIXA; linha < (faixa + 1) * LINHAS_POR_FAIXA; linha++) {
+                chave = misturar(chave * 31 + assinatura[linha]);
+            }
+            return chave;
+        }
+    }
+
+    private static int[] calcularAssinatura(long[] tagIds) {
+        int[] assinatura = new int[TAMANHO_ASSINATURA];
+        for (int i = 0; i < TAMANHO_ASSINATURA; i++) {
+            int minimo = Integer.MAX_VALUE;
+            for (long tagId : tagIds) {
+                minimo = Math.min(minimo, (int) (misturar(tagId ^ SEMENTES[i]) >>> 33));
+            }
+            assinatura[i] = minimo;
+        }
+        return assinatura;
+    }
+
+    private static double jaccard(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int intersecao = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersecao++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int uniao = a.length + b.length - intersecao;
+        return uniao == 0 ? 0 : (double) intersecao / uniao;
+    }
+
+    /**
+     * Função de mistura do SplitMix64: espalha bem os bits de IDs sequenciais.
+     */
+    private static long misturar(long valor) {
+        long z = valor + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long[] gerarSementes() {
+        long[] sementes = new long[TAMANHO_ASSINATURA];
+        for (int i = 0; i < sementes.length; i++) {
+            sementes[i] = misturar(i + 1L);
+        }
+        return sementes;
+    }
+}
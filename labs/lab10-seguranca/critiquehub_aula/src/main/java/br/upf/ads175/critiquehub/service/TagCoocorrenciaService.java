@@ -0,0 +1,219 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.TagRelacionadaDTO;
+import br.upf.ads175.critiquehub.event.CatalogoImportado;
+import br.upf.ads175.critiquehub.event.TagsDoItemAlteradas;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Índice em memória de co-ocorrência entre tags.
+ *
+ * Mantém uma matriz esparsa com o número de itens culturais que compartilham
+ * cada par de tags, permitindo sugerir tags relacionadas (ex.: "terror" e
+ * "suspense") sem auto-junções em item_cultural_tag a cada requisição.
+ *
+ * A matriz é reconstruída em paralelo na inicialização e atualizada de forma
+ * incremental a cada {@link TagsDoItemAlteradas} confirmado.
+ */
+@ApplicationScoped
+public class TagCoocorrenciaService {
+
+    private static final Logger LOG = Logger.getLogger(TagCoocorrenciaService.class);
+
+    @Inject
+    EntityManager entityManager;
+
+    private volatile Matriz matriz = new Matriz();
+
+    /**
+     * Uma reconstrução por vez (inicialização e importações podem coincidir).
+     */
+    private final Object reconstrucao = new Object();
+
+    /**
+     * Alterações recebidas durante uma reconstrução; {@code null} fora dela. Protegida por {@code this}.
+     */
+    private List<TagsDoItemAlteradas> alteracoesDuranteReconstrucao;
+
+    // ========================================================================
+    // Construção e Manutenção
+    // ========================================================================
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        reconstruir();
+    }
+
+    void aoImportarCatalogo(@Observes CatalogoImportado evento) {
+        reconstruir();
+    }
+
+    /**
+     * Reconstrói a matriz a partir de item_cultural_tag, processando os itens em paralelo.
+     *
+     * Alterações confirmadas enquanto a leitura roda continuam sendo aplicadas à
+     * matriz atual e também ficam guardadas; antes da troca elas são reaplicadas
+     * na nova matriz. A reaplicação troca as tags do item pelas atuais (em vez de
+     * aplicar a diferença), então não conta duas vezes uma alteração que a leitura
+     * já tenha visto.
+     */
+    @Transactional
+    public void reconstruir() {
+        synchronized (reconstrucao) {
+            synchronized (this) {
+                alteracoesDuranteReconstrucao = new ArrayList<>();
+            }
+
+            List<Object[]> linhas = entityManager.createQuery(
+                    "SELECT i.id, t.id FROM ItemCultural i JOIN i.tags t", Object[].class)
+                    .getResultList();
+
+            Map<Long, Set<Long>> tagsPorItem = linhas.stream()
+                    .collect(Collectors.groupingBy(linha -> (Long) linha[0],
+                            Collectors.mapping(linha -> (Long) linha[1], Collectors.toSet())));
+
+            Matriz nova = new Matriz();
+            tagsPorItem.values().parallelStream().forEach(nova::adicionarItem);
+
+            synchronized (this) {
+                for (TagsDoItemAlteradas alteracao : alteracoesDuranteReconstrucao) {
+                    nova.removerItem(tagsPorItem.getOrDefault(alteracao.itemId(), Set.of()));
+                    nova.adicionarItem(alteracao.tagIdsAtuais());
+                    tagsPorItem.put(alteracao.itemId(), alteracao.tagIdsAtuais());
+                }
+                alteracoesDuranteReconstrucao = null;
+                this.matriz = nova;
+            }
+            LOG.debugf("Matriz de co-ocorrência reconstruída: %d itens, %d tags",
+                    nova.totalItens.sum(), nova.frequencias.size());
+        }
+    }
+
+    /**
+     * Aplica a diferença de tags de um item após a confirmação da transação.
+     */
+    synchronized void aoAlterarTags(@Observes(during = TransactionPhase.AFTER_SUCCESS) TagsDoItemAlteradas evento) {
+        matriz.removerItem(evento.tagIdsAnteriores());
+        matriz.adicionarItem(evento.tagIdsAtuais());
+        if (alteracoesDuranteReconstrucao != null) {
+            alteracoesDuranteReconstrucao.add(evento);
+        }
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    /**
+     * Lista as tags que mais co-ocorrem com a tag informada.
+     *
+     * @param tagId ID da tag de referência
+     * @param limite número máximo de sugestões
+     * @return tags relacionadas, ordenadas por co-ocorrência e depois por PMI
+     */
+    public List<TagRelacionadaDTO> buscarRelacionadas(Long tagId, int limite) {
+        Matriz atual = this.matriz;
+        Map<Long, LongAdder> linha = atual.coocorrencias.get(tagId);
+        if (linha == null || limite <= 0) {
+            return List.of();
+        }
+
+        Comparator<TagRelacionadaDTO> ordem = Comparator
+                .comparingLong(TagRelacionadaDTO::coocorrencias)
+                .thenComparingDouble(TagRelacionadaDTO::pmi);
+
+        // Heap mínimo limitado: mantém apenas os K melhores candidatos
+        PriorityQueue<TagRelacionadaDTO> melhores = new PriorityQueue<>(limite + 1, ordem);
+        linha.forEach((outraTagId, contador) -> {
+            long coocorrencias = contador.sum();
+            if (coocorrencias > 0) {
+                melhores.offer(new TagRelacionadaDTO(outraTagId, coocorrencias,
+                        atual.calcularPmi(tagId, outraTagId, coocorrencias)));
+                if (melhores.size() > limite) {
+                    melhores.poll();
+                }
+            }
+        });
+
+        List<TagRelacionadaDTO> resultado = new ArrayList<>(melhores);
+        resultado.sort(ordem.reversed());
+        return resultado;
+    }
+
+    /**
+     * Retorna quantos itens possuem as duas tags informadas.
+     */
+    public long contarCoocorrencias(Long tagA, Long tagB) {
+        Map<Long, LongAdder> linha = matriz.coocorrencias.get(tagA);
+        if (linha == null) {
+            return 0;
+        }
+        LongAdder contador = linha.get(tagB);
+        return contador != null ? contador.sum() : 0;
+    }
+
+    // ========================================================================
+    // Estrutura Interna
+    // ========================================================================
+
+    /**
+     * Matriz esparsa e simétrica de contagens, segura para escrita concorrente.
+     */
+    private static final class Matriz {
+
+        private final Map<Long, Map<Long, LongAdder>> coocorrencias = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> frequencias = new ConcurrentHashMap<>();
+        private final LongAdder totalItens = new LongAdder();
+
+        void adicionarItem(Collection<Long> tagIds) {
+            aplicar(tagIds, 1);
+        }
+
+        void removerItem(Collection<Long> tagIds) {
+            aplicar(tagIds, -1);
+        }
+
+        private void aplicar(Collection<Long> tagIds, int delta) {
+            if (tagIds.isEmpty()) {
+                return;
+            }
+            totalItens.add(delta);
+            for (Long tagA : tagIds) {
+                frequencias.computeIfAbsent(tagA, id -> new LongAdder()).add(delta);
+                Map<Long, LongAdder> linha = coocorrencias.computeIfAbsent(tagA, id -> new ConcurrentHashMap<>());
+                for (Long tagB : tagIds) {
+                    if (!tagA.equals(tagB)) {
+                        linha.computeIfAbsent(tagB, id -> new LongAdder()).add(delta);
+                    }
+                }
+            }
+        }
+
+        double calcularPmi(Long tagA, Long tagB, long coocorrencias) {
+            long total = totalItens.sum();
+            long frequenciaA = frequencias.getOrDefault(tagA, new LongAdder()).sum();
+            long frequenciaB = frequencias.getOrDefault(tagB, new LongAdder()).sum();
+            if (total <= 0 || frequenciaA <= 0 || frequenciaB <= 0) {
+                return 0.0;
+            }
+            return Math.log((double) coocorrencias * total / ((double) frequenciaA * frequenciaB));
+        }
+    }
+}
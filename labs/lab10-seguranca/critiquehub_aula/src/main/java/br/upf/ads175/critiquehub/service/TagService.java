@@ -1,21 +1,33 @@
 package br.upf.ads175.critiquehub.service;
 
+import br.upf.ads175.critiquehub.dto.TagRelacionadaDTO;
+import br.upf.ads175.critiquehub.dto.TagResumoDTO;
 import br.upf.ads175.critiquehub.entity.model.Tag;
 import br.upf.ads175.critiquehub.entity.model.ItemCultural;
+import br.upf.ads175.critiquehub.event.TagsDoItemAlteradas;
 import br.upf.ads175.critiquehub.exception.DadosDuplicadosException;
 import br.upf.ads175.critiquehub.exception.EntidadeNaoEncontradaException;
 import br.upf.ads175.critiquehub.exception.RegraDeNegocioException;
 import br.upf.ads175.critiquehub.repository.TagRepository;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Serviço responsável pelas operações de negócio relacionadas às Tags.
@@ -27,6 +39,23 @@ public class TagService {
     @Inject
     TagRepository tagRepository;
 
+    @Inject
+    TagCoocorrenciaService tagCoocorrenciaService;
+
+    @Inject
+    Event<TagsDoItemAlteradas> tagsDoItemAlteradas;
+
+    @Inject
+    Validator validator;
+
+    /**
+     * Cache nome normalizado → ID usado por {@link #buscarOuCriar(String)}, limitado em tamanho.
+     * Entradas são conferidas contra o banco a cada uso, então nunca retornam tag renomeada ou removida.
+     */
+    @Inject
+    @CacheName("tags-por-nome")
+    Cache idsPorNome;
+
     /**
      * Cria uma nova tag.
      *
@@ -105,19 +134,49 @@ public class TagService {
      */
     @Transactional(Transactional.TxType.SUPPORTS)
     public Optional<Tag> buscarPorNome(@NotBlank String nome) {
-        String nomeNormalizado = nome.toLowerCase().trim();
-        return tagRepository.find("LOWER(nome) = ?1 AND ativo = true", nomeNormalizado).firstResultOptional();
+        return tagRepository.findByNomeAtiva(nome);
     }
 
     /**
-     * Busca ou cria uma tag pelo nome.
+     * Busca ou cria uma tag pelo nome de forma atômica.
+     *
+     * O ID é resolvido primeiro pelo cache em memória; na ausência, a tag é
+     * inserida com INSERT ... ON CONFLICT DO NOTHING, de modo que requisições
+     * concorrentes com o mesmo nome convergem para a mesma linha sem violar
+     * a constraint única nem desfazer a transação de quem perdeu a corrida.
      *
      * @param nome nome da tag
      * @return tag existente ou nova tag criada
+     * @throws DadosDuplicadosException se a tag existente com o mesmo nome estiver inativa
+     * @throws ConstraintViolationException se o nome normalizado não respeitar as regras de {@link Tag}
      */
     public Tag buscarOuCriar(@NotBlank String nome) {
-        return buscarPorNome(nome)
-            .orElseGet(() -> criar(nome));
+        String nomeNormalizado = Tag.normalizarNome(nome);
+
+        // O INSERT nativo não passa pelo Bean Validation da entidade
+        Set<ConstraintViolation<Tag>> violacoes = validator.validateValue(Tag.class, "nome", nomeNormalizado);
+        if (!violacoes.isEmpty()) {
+            throw new ConstraintViolationException(violacoes);
+        }
+
+        Long id = idsPorNome.<String, Long>get(nomeNormalizado,
+                chave -> tagRepository.inserirSeAusente(new Tag(chave))).await().indefinitely();
+        Optional<Tag> tagEmCache = tagRepository.findByIdOptional(id)
+            .filter(tag -> nomeNormalizado.equals(tag.getNome()));
+
+        Tag tag;
+        if (tagEmCache.isPresent()) {
+            tag = tagEmCache.get();
+        } else {
+            // Tag renomeada/removida, ou inserção desfeita depois de entrar no cache
+            idsPorNome.invalidate(nomeNormalizado).await().indefinitely();
+            tag = buscarPorId(tagRepository.inserirSeAusente(new Tag(nomeNormalizado)));
+        }
+
+        if (!Boolean.TRUE.equals(tag.getAtivo())) {
+            throw new DadosDuplicadosException("Já existe uma tag com o nome '" + nome + "'");
+        }
+        return tag;
     }
 
     /**
@@ -130,6 +189,16 @@ public class TagService {
         return tagRepository.find("ativo = true ORDER BY nome").list();
     }
 
+    /**
+     * Lista todas as tags ativas como projeção, para telas de listagem.
+     *
+     * @return resumos das tags ativas
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<TagResumoDTO> listarAtivasResumo() {
+        return tagRepository.findAllAtivasResumo();
+    }
+
     /**
      * Lista todas as tags (ativas e inativas).
      *
@@ -149,7 +218,7 @@ public class TagService {
     @Transactional(Transactional.TxType.SUPPORTS)
     public List<Tag> buscarPorNomeParcial(@NotBlank String nome) {
         String termoBusca = "%" + nome.toLowerCase().trim() + "%";
-        return tagRepository.find("LOWER(nome) LIKE ?1 AND ativo = true ORDER BY nome", termoBusca).list();
+        return tagRepository.find("nome LIKE ?1 AND ativo = true ORDER BY nome", termoBusca).list();
     }
 
     /**
@@ -244,7 +313,9 @@ public class TagService {
      */
     public void associarAoItem(@NotNull Long tagId, @NotNull ItemCultural item) {
         Tag tag = buscarPorId(tagId);
+        Set<Long> tagIdsAnteriores = extrairTagIds(item);
         item.adicionarTag(tag);
+        notificarAlteracaoDeTags(item, tagIdsAnteriores);
     }
 
     /**
@@ -256,7 +327,35 @@ public class TagService {
      */
     public void removerDoItem(@NotNull Long tagId, @NotNull ItemCultural item) {
         Tag tag = buscarPorId(tagId);
+        Set<Long> tagIdsAnteriores = extrairTagIds(item);
         item.removerTag(tag);
+        notificarAlteracaoDeTags(item, tagIdsAnteriores);
+    }
+
+    /**
+     * Lista as tags ativas que mais aparecem junto com a tag informada.
+     *
+     * @param tagId  ID da tag de referência
+     * @param limite número máximo de sugestões
+     * @return tags relacionadas, da mais para a menos relacionada
+     */
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<Tag> listarRelacionadas(@NotNull Long tagId, int limite) {
+        List<Long> ids = tagCoocorrenciaService.buscarRelacionadas(tagId, limite).stream()
+            .map(TagRelacionadaDTO::tagId)
+            .toList();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Tag> tagsPorId = tagRepository.list("id IN ?1 AND ativo = true", ids).stream()
+            .collect(Collectors.toMap(Tag::getId, Function.identity()));
+
+        return ids.stream()
+            .map(tagsPorId::get)
+            .filter(tag -> tag != null)
+            .toList();
     }
 
     /**
@@ -287,13 +386,31 @@ public class TagService {
      * @throws DadosDuplicadosException se já existir uma tag com o mesmo nome
      */
     private void validarTagUnica(String nome, Long idExcluir) {
-        String nomeNormalizado = nome.toLowerCase().trim();
-
-        Optional<Tag> tagExistente = tagRepository.find("LOWER(nome) = ?1", nomeNormalizado)
-            .firstResultOptional();
+        Optional<Tag> tagExistente = tagRepository.findByNome(nome);
 
         if (tagExistente.isPresent() && !tagExistente.get().getId().equals(idExcluir)) {
             throw new DadosDuplicadosException("Já existe uma tag com o nome '" + nome + "'");
         }
     }
+
+    private Set<Long> extrairTagIds(ItemCultural item) {
+        return item.getTags().stream()
+            .map(Tag::getId)
+            .filter(id -> id != null)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Publica a alteração de tags do item para os índices em memória.
+     * Itens ainda não persistidos são ignorados; entram no índice na próxima reconstrução.
+     */
+    private void notificarAlteracaoDeTags(ItemCultural item, Set<Long> tagIdsAnteriores) {
+        if (item.getId() != null) {
+            Set<String> nomesTags = item.getTags().stream()
+                .map(Tag::getNome)
+                .collect(Collectors.toSet());
+            tagsDoItemAlteradas.fire(new TagsDoItemAlteradas(item.getId(), tagIdsAnteriores,
+                extrairTagIds(item), nomesTags));
+        }
+    }
 }
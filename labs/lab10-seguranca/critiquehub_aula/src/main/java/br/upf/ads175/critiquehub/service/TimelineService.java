@@ -0,0 +1,316 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.AtividadeDTO;
+import br.upf.ads175.critiquehub.event.AtividadePublicada;
+import br.upf.ads175.critiquehub.event.SeguimentoAlterado;
+import br.upf.ads175.critiquehub.event.UsuarioAlterado;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Timeline da página inicial: avaliações públicas e comentários de quem o usuário segue.
+ *
+ * Fan-out na escrita: cada {@link AtividadePublicada} confirmada é anexada, em
+ * uma thread própria, às timelines dos seguidores do autor. Cada timeline é um
+ * conjunto ordenado limitado a {@code critiquehub.timeline.tamanho-maximo}
+ * entradas, então a leitura de uma página é uma busca pelo cursor seguida de
+ * {@code tamanho} passos, sem JOIN entre avaliacoes e comentarios.
+ *
+ * Timelines só existem em memória para quem as leu recentemente: são montadas
+ * na primeira leitura a partir do banco e descartadas após um período ocioso.
+ * Seguir ou deixar de seguir alguém descarta a timeline, que é remontada na
+ * próxima leitura.
+ *
+ * Autores com mais de {@code critiquehub.timeline.limite-fan-out} seguidores não
+ * são distribuídos: suas atividades recentes ficam em uma lista por autor,
+ * intercalada com a timeline do leitor no momento da leitura (modelo híbrido).
+ *
+ * As entradas trazem só identificadores; avaliações ou comentários removidos
+ * depois de distribuídos devem ser ignorados por quem carrega o conteúdo.
+ */
+@ApplicationScoped
+public class TimelineService {
+
+    private static final Logger LOG = Logger.getLogger(TimelineService.class);
+
+    /**
+     * Máximo de IDs de autores por consulta ao montar uma timeline.
+     */
+    private static final int AUTORES_POR_CONSULTA = 1000;
+
+    @ConfigProperty(name = "critiquehub.timeline.tamanho-maximo", defaultValue = "500")
+    int tamanhoMaximo;
+
+    @ConfigProperty(name = "critiquehub.timeline.limite-fan-out", defaultValue = "5000")
+    long limiteFanOut;
+
+    @ConfigProperty(name = "critiquehub.timeline.ociosidade", defaultValue = "30M")
+    Duration ociosidade;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    SeguidoresService seguidoresService;
+
+    /**
+     * Timelines montadas, por leitor.
+     */
+    private final ConcurrentHashMap<Long, Timeline> timelines = new ConcurrentHashMap<>();
+
+    /**
+     * Atividades recentes dos autores com fan-out alto, por autor.
+     */
+    private final ConcurrentHashMap<Long, Timeline> recentesPorAutor = new ConcurrentHashMap<>();
+
+    private ExecutorService distribuidor;
+
+    @PostConstruct
+    void iniciar() {
+        distribuidor = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "timeline-fan-out");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void encerrar() {
+        distribuidor.shutdownNow();
+    }
+
+    // ========================================================================
+    // Leitura
+    // ========================================================================
+
+    /**
+     * Página da timeline do usuário, mais recentes primeiro.
+     *
+     * @param usuarioId leitor
+     * @param apos última atividade da página anterior ({@code null} para a primeira página)
+     * @param tamanho quantidade de atividades
+     * @return atividades da página (vazia ao fim da timeline)
+     */
+    public List<AtividadeDTO> listar(Long usuarioId, AtividadeDTO apos, int tamanho) {
+        if (tamanho <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser positivo");
+        }
+
+        Timeline timeline = timelines.get(usuarioId);
+        if (timeline == null) {
+            timeline = montar(usuarioId);
+        }
+        timeline.carregada.join();
+        timeline.ultimoAcesso = System.nanoTime();
+
+        List<AtividadeDTO> pagina = timeline.pagina(apos, tamanho);
+        if (recentesPorAutor.isEmpty()) {
+            return pagina;
+        }
+
+        // Modelo híbrido: intercala as atividades dos autores não distribuídos
+        TreeSet<AtividadeDTO> intercaladas = null;
+        for (var autor : recentesPorAutor.entrySet()) {
+            if (!seguidoresService.segue(usuarioId, autor.getKey())) {
+                continue;
+            }
+            if (intercaladas == null) {
+                intercaladas = new TreeSet<>(AtividadeDTO.MAIS_RECENTES_PRIMEIRO);
+                intercaladas.addAll(pagina);
+            }
+            intercaladas.addAll(autor.getValue().pagina(apos, tamanho));
+        }
+        if (intercaladas == null) {
+            return pagina;
+        }
+        List<AtividadeDTO> resultado = new ArrayList<>(tamanho);
+        Iterator<AtividadeDTO> iterador = intercaladas.iterator();
+        while (resultado.size() < tamanho && iterador.hasNext()) {
+            resultado.add(iterador.next());
+        }
+        return resultado;
+    }
+
+    private Timeline montar(Long usuarioId) {
+        Timeline nova = new Timeline(tamanhoMaximo);
+        Timeline existente = timelines.putIfAbsent(usuarioId, nova);
+        if (existente != null) {
+            return existente;
+        }
+
+        // Registrada antes da consulta: atividades distribuídas enquanto ela roda não se perdem
+        try {
+            nova.adicionarTodas(carregarRecentes(seguidoresService.listarSeguidos(usuarioId)));
+            nova.carregada.complete(null);
+        } catch (RuntimeException e) {
+            timelines.remove(usuarioId, nova);
+            nova.carregada.completeExceptionally(e);
+            throw e;
+        }
+        return nova;
+    }
+
+    // ========================================================================
+    // Distribuição
+    // ========================================================================
+
+    void aoPublicar(@Observes(during = TransactionPhase.AFTER_SUCCESS) AtividadePublicada evento) {
+        distribuidor.execute(() -> {
+            try {
+                distribuir(evento.atividade());
+            } catch (RuntimeException e) {
+                LOG.warnf(e, "Falha ao distribuir atividade %s %d", evento.atividade().tipo(), evento.atividade().id());
+            }
+        });
+    }
+
+    private void distribuir(AtividadeDTO atividade) {
+        Long autorId = atividade.autorId();
+        if (seguidoresService.contarSeguidores(autorId) > limiteFanOut) {
+            Timeline recentes = recentesPorAutor.get(autorId);
+            if (recentes == null) {
+                recentes = new Timeline(tamanhoMaximo);
+                recentes.adicionarTodas(carregarRecentes(new long[] {autorId}));
+                recentes.carregada.complete(null);
+                recentesPorAutor.put(autorId, recentes);
+            }
+            recentes.adicionar(atividade);
+            return;
+        }
+
+        recentesPorAutor.remove(autorId);
+        for (long seguidorId : seguidoresService.listarSeguidores(autorId)) {
+            Timeline timeline = timelines.get(seguidorId);
+            if (timeline != null) {
+                timeline.adicionar(atividade);
+            }
+        }
+    }
+
+    void aoAlterarSeguimento(@Observes(during = TransactionPhase.AFTER_SUCCESS) SeguimentoAlterado evento) {
+        timelines.remove(evento.seguidorId());
+    }
+
+    void aoAlterarUsuario(@Observes(during = TransactionPhase.AFTER_SUCCESS) UsuarioAlterado evento) {
+        if (evento.removido()) {
+            timelines.remove(evento.usuarioId());
+            recentesPorAutor.remove(evento.usuarioId());
+        }
+    }
+
+    @Scheduled(every = "${critiquehub.timeline.limpeza:5m}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void descartarOciosas() {
+        long limite = System.nanoTime() - ociosidade.toNanos();
+        int antes = timelines.size();
+        timelines.values().removeIf(timeline -> timeline.ultimoAcesso - limite < 0);
+        LOG.debugf("Timelines ociosas descartadas: %d", antes - timelines.size());
+    }
+
+    // ========================================================================
+    // Carga do banco
+    // ========================================================================
+
+    /**
+     * Atividades mais recentes dos autores informados, até o tamanho máximo da timeline.
+     */
+    private List<AtividadeDTO> carregarRecentes(long[] autores) {
+        if (autores.length == 0) {
+            return List.of();
+        }
+        return QuarkusTransaction.joiningExisting().call(() -> {
+            Timeline recentes = new Timeline(tamanhoMaximo);
+            for (int inicio = 0; inicio < autores.length; inicio += AUTORES_POR_CONSULTA) {
+                List<Long> bloco = Arrays.stream(autores, inicio, Math.min(inicio + AUTORES_POR_CONSULTA, autores.length))
+                        .boxed().toList();
+
+                entityManager.createQuery(
+                        "SELECT a.id, a.usuario.id, a.dataAvaliacao FROM Avaliacao a " +
+                        "WHERE a.usuario.id IN :autores AND a.publica = true " +
+                        "ORDER BY a.dataAvaliacao DESC", Object[].class)
+                        .setParameter("autores", bloco)
+                        .setHint(HibernateHints.HINT_READ_ONLY, true)
+                        .setMaxResults(tamanhoMaximo)
+                        .getResultStream()
+                        .forEach(linha -> recentes.adicionar(new AtividadeDTO(AtividadeDTO.Tipo.AVALIACAO,
+                                (Long) linha[0], (Long) linha[1], (Long) linha[0], (LocalDateTime) linha[2])));
+
+                entityManager.createQuery(
+                        "SELECT c.id, c.autor.id, c.avaliacao.id, c.dataComentario FROM Comentario c " +
+                        "WHERE c.autor.id IN :autores AND c.avaliacao.publica = true " +
+                        "ORDER BY c.dataComentario DESC", Object[].class)
+                        .setParameter("autores", bloco)
+                        .setHint(HibernateHints.HINT_READ_ONLY, true)
+                        .setMaxResults(tamanhoMaximo)
+                        .getResultStream()
+                        .forEach(linha -> recentes.adicionar(new AtividadeDTO(AtividadeDTO.Tipo.COMENTARIO,
+                                (Long) linha[0], (Long) linha[1], (Long) linha[2], (LocalDateTime) linha[3])));
+            }
+            return recentes.pagina(null, tamanhoMaximo);
+        });
+    }
+
+    /**
+     * Conjunto ordenado e limitado de atividades; ao passar do limite, descarta as mais antigas.
+     */
+    private static final class Timeline {
+        private final NavigableSet<AtividadeDTO> entradas = new TreeSet<>(AtividadeDTO.MAIS_RECENTES_PRIMEIRO);
+        private final int capacidade;
+        private final CompletableFuture<Void> carregada = new CompletableFuture<>();
+        private volatile long ultimoAcesso = System.nanoTime();
+
+        Timeline(int capacidade) {
+            this.capacidade = capacidade;
+        }
+
+        synchronized void adicionar(AtividadeDTO atividade) {
+            entradas.add(atividade);
+            if (entradas.size() > capacidade) {
+                entradas.pollLast();
+            }
+        }
+
+        synchronized void adicionarTodas(Collection<AtividadeDTO> atividades) {
+            entradas.addAll(atividades);
+            while (entradas.size() > capacidade) {
+                entradas.pollLast();
+            }
+        }
+
+        synchronized List<AtividadeDTO> pagina(AtividadeDTO apos, int tamanho) {
+            NavigableSet<AtividadeDTO> restantes = apos != null ? entradas.tailSet(apos, false) : entradas;
+            List<AtividadeDTO> pagina = new ArrayList<>(Math.min(tamanho, capacidade));
+            for (AtividadeDTO atividade : restantes) {
+                if (pagina.size() == tamanho) {
+                    break;
+                }
+                pagina.add(atividade);
+            }
+            return pagina;
+        }
+    }
+}
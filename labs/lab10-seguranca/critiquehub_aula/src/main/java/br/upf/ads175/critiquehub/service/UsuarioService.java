@@ -1,18 +1,29 @@
 package br.upf.ads175.critiquehub.service;
 
+import br.upf.ads175.critiquehub.dto.CursorUsuarioDTO;
+import br.upf.ads175.critiquehub.dto.PaginaUsuariosDTO;
+import br.upf.ads175.critiquehub.dto.ResultadoProvisionamentoDTO;
+import br.upf.ads175.critiquehub.dto.UsuarioEncontradoDTO;
+import br.upf.ads175.critiquehub.dto.UsuarioProvisionamentoDTO;
+import br.upf.ads175.critiquehub.dto.UsuarioResumoDTO;
 import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
 import br.upf.ads175.critiquehub.entity.model.Usuario;
+import br.upf.ads175.critiquehub.event.CredenciaisUsuarioAlteradas;
+import br.upf.ads175.critiquehub.event.StatusUsuarioAlterado;
 import br.upf.ads175.critiquehub.exception.DadosDuplicadosException;
 import br.upf.ads175.critiquehub.exception.EntidadeNaoEncontradaException;
 import br.upf.ads175.critiquehub.exception.RegraDeNegocioException;
 import br.upf.ads175.critiquehub.repository.UsuarioRepository;
+import br.upf.ads175.critiquehub.security.ProcessadorSenhas;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Serviço de negócio simplificado para operações relacionadas a usuários.
@@ -23,6 +34,30 @@ public class UsuarioService {
     @Inject
     UsuarioRepository usuarioRepository;
 
+    /**
+     * Invalida o cache de autenticação após mudanças confirmadas.
+     */
+    @Inject
+    Event<CredenciaisUsuarioAlteradas> credenciaisAlteradas;
+
+    /**
+     * Mantém os contadores do EstatisticasUsuariosService.
+     */
+    @Inject
+    Event<StatusUsuarioAlterado> statusAlterado;
+
+    @Inject
+    EstatisticasUsuariosService estatisticasUsuariosService;
+
+    @Inject
+    BuscaUsuariosService buscaUsuariosService;
+
+    @Inject
+    ProcessadorSenhas processadorSenhas;
+
+    @Inject
+    ProvisionamentoUsuariosService provisionamentoUsuariosService;
+
     // ========================================================================
     // Operações de Criação e Atualização
     // ========================================================================
@@ -38,7 +73,22 @@ public class UsuarioService {
             nomeUsuario.trim(),
             nomeCompleto.trim());
 
-        return usuarioRepository.salvar(novoUsuario);
+        Usuario salvo = usuarioRepository.salvar(novoUsuario);
+        credenciaisAlteradas.fire(new CredenciaisUsuarioAlteradas(salvo.getNomeUsuario()));
+        statusAlterado.fire(new StatusUsuarioAlterado(salvo.getId(), null, salvo.getStatus(), salvo.getDataRegistro()));
+        return salvo;
+    }
+
+    /**
+     * Cria usuários em lote (lista da instituição), com deduplicação no lote e
+     * contra o banco; devolve o desfecho de cada linha.
+     */
+    public List<ResultadoProvisionamentoDTO> provisionarUsuarios(List<UsuarioProvisionamentoDTO> usuarios,
+                                                                 Set<String> roles) {
+        if (usuarios == null || usuarios.isEmpty()) {
+            return List.of();
+        }
+        return provisionamentoUsuariosService.provisionar(usuarios, roles);
     }
 
     @Transactional
@@ -61,7 +111,31 @@ public class UsuarioService {
             throw new RegraDeNegocioException("Usuário suspenso não pode ser marcado como inativo diretamente");
         }
 
+        StatusUsuario statusAnterior = usuario.getStatus();
         usuario.setStatus(novoStatus);
+        credenciaisAlteradas.fire(new CredenciaisUsuarioAlteradas(usuario.getNomeUsuario()));
+        statusAlterado.fire(new StatusUsuarioAlterado(usuario.getId(), statusAnterior, novoStatus, usuario.getDataRegistro()));
+        return usuarioRepository.atualizar(usuario);
+    }
+
+    @Transactional
+    public Usuario alterarSenha(Long id, String novaSenha) {
+        if (novaSenha == null || novaSenha.length() < 6) {
+            throw new IllegalArgumentException("A senha deve ter no mínimo 6 caracteres");
+        }
+        Usuario usuario = buscarPorIdObrigatorio(id);
+
+        usuario.setSenha(processadorSenhas.gerarHashAguardando(novaSenha));
+        credenciaisAlteradas.fire(new CredenciaisUsuarioAlteradas(usuario.getNomeUsuario()));
+        return usuarioRepository.atualizar(usuario);
+    }
+
+    @Transactional
+    public Usuario alterarRoles(Long id, Set<String> roles) {
+        Usuario usuario = buscarPorIdObrigatorio(id);
+
+        usuario.setRoles(roles);
+        credenciaisAlteradas.fire(new CredenciaisUsuarioAlteradas(usuario.getNomeUsuario()));
         return usuarioRepository.atualizar(usuario);
     }
 
@@ -92,15 +166,41 @@ public class UsuarioService {
         return usuarioRepository.buscarPorNomeUsuario(nomeUsuario.trim());
     }
 
-    public List<Usuario> listarUsuariosAtivos() {
-        return usuarioRepository.listarAtivos();
+    public List<UsuarioResumoDTO> listarUsuariosAtivos() {
+        return usuarioRepository.listarAtivosResumo();
     }
 
-    public List<Usuario> buscarPorNome(String fragmentoNome, boolean incluirInativos) {
+    /**
+     * Página de usuários ativos, mais recentes primeiro; passe o cursor da página anterior
+     * ({@code null} na primeira).
+     */
+    public PaginaUsuariosDTO listarUsuariosAtivos(CursorUsuarioDTO apos, int tamanhoPagina) {
+        return usuarioRepository.listarAtivosResumo(apos, tamanhoPagina);
+    }
+
+    public PaginaUsuariosDTO buscarPorPeriodoRegistro(LocalDate dataInicio, LocalDate dataFim,
+                                                      CursorUsuarioDTO apos, int tamanhoPagina) {
+        if (dataInicio == null || dataFim == null || dataInicio.isAfter(dataFim)) {
+            throw new IllegalArgumentException("Período de registro inválido");
+        }
+        return usuarioRepository.buscarResumoPorPeriodoRegistro(dataInicio, dataFim, apos, tamanhoPagina);
+    }
+
+    public List<UsuarioResumoDTO> buscarPorNome(String fragmentoNome, boolean incluirInativos) {
         if (fragmentoNome == null || fragmentoNome.trim().length() < 2) {
             return List.of();
         }
-        return usuarioRepository.buscarPorNome(fragmentoNome.trim(), !incluirInativos, 20);
+        return usuarioRepository.buscarResumoPorNome(fragmentoNome.trim(), !incluirInativos, 20);
+    }
+
+    /**
+     * Busca ranqueada por similaridade no índice de trigramas (nome completo e nome de usuário).
+     */
+    public List<UsuarioEncontradoDTO> buscarUsuarios(String termo, boolean incluirInativos) {
+        if (termo == null || termo.trim().isEmpty()) {
+            return List.of();
+        }
+        return buscaUsuariosService.buscar(termo.trim(), !incluirInativos, 20);
     }
 
     // ========================================================================
@@ -118,6 +218,10 @@ public class UsuarioService {
 
     @Transactional
     public boolean removerDefinitivamente(Long id) {
+        usuarioRepository.buscarPorId(id).ifPresent(usuario -> {
+            credenciaisAlteradas.fire(new CredenciaisUsuarioAlteradas(usuario.getNomeUsuario()));
+            statusAlterado.fire(new StatusUsuarioAlterado(usuario.getId(), usuario.getStatus(), null, usuario.getDataRegistro()));
+        });
         return usuarioRepository.remover(id);
     }
 
@@ -166,6 +270,6 @@ public class UsuarioService {
     }
 
     public long contarUsuariosAtivos() {
-        return usuarioRepository.listarAtivos().size();
+        return estatisticasUsuariosService.contarAtivos();
     }
 }
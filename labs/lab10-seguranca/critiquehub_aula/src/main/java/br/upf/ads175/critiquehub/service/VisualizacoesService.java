@@ -0,0 +1,182 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ItemVisualizacoesDTO;
+import br.upf.ads175.critiquehub.event.ItemCulturalAlterado;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.jboss.logging.Logger;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contagem de visualizações dos itens culturais.
+ *
+ * Cada visualização incrementa um {@link LongAdder} do item em memória (sem
+ * contenção entre threads e sem acesso ao banco). Periodicamente os deltas são
+ * retirados dos acumuladores e gravados em um único lote de MERGE na tabela
+ * contadores_visualizacao, somando ao total já gravado. Como o banco só recebe
+ * somas, reinícios e várias instâncias convivem sem sobrescrever contagens;
+ * em caso de queda perde-se no máximo o intervalo entre gravações.
+ */
+@ApplicationScoped
+public class VisualizacoesService {
+
+    private static final Logger LOG = Logger.getLogger(VisualizacoesService.class);
+
+    private static final String MERGE_CONTADOR = """
+            MERGE INTO contadores_visualizacao c
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP)))
+                  AS d (item_cultural_id, delta, momento)
+               ON c.item_cultural_id = d.item_cultural_id
+             WHEN MATCHED THEN
+                  UPDATE SET total = c.total + d.delta, atualizado_em = d.momento
+             WHEN NOT MATCHED THEN
+                  INSERT (item_cultural_id, total, atualizado_em)
+                  VALUES (d.item_cultural_id, d.delta, d.momento)
+            """;
+
+    @Inject
+    EntityManager entityManager;
+
+    private final Map<Long, LongAdder> pendentes = new ConcurrentHashMap<>();
+
+    // ========================================================================
+    // Registro
+    // ========================================================================
+
+    /**
+     * Registra uma visualização do item. Não acessa o banco.
+     */
+    public void registrarVisualizacao(Long itemId) {
+        if (itemId == null) {
+            throw new IllegalArgumentException("ID do item é obrigatório");
+        }
+        pendentes.computeIfAbsent(itemId, id -> new LongAdder()).increment();
+    }
+
+    // ========================================================================
+    // Gravação Periódica
+    // ========================================================================
+
+    @Scheduled(every = "${critiquehub.visualizacoes.intervalo-gravacao:5s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void gravarPeriodicamente() {
+        gravarPendentes();
+    }
+
+    void aoEncerrar(@Observes ShutdownEvent evento) {
+        gravarPendentes();
+    }
+
+    /**
+     * Grava em lote os deltas acumulados desde a última gravação.
+     * Se a gravação falhar, os deltas voltam para os acumuladores.
+     *
+     * @return quantidade de itens gravados
+     */
+    public synchronized int gravarPendentes() {
+        Map<Long, Long> deltas = retirarDeltas();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            QuarkusTransaction.requiringNew().run(() -> gravarEmLote(deltas));
+            LOG.debugf("Visualizações gravadas para %d itens", deltas.size());
+            return deltas.size();
+        } catch (RuntimeException e) {
+            deltas.forEach((itemId, delta) -> pendentes.computeIfAbsent(itemId, id -> new LongAdder()).add(delta));
+            LOG.warnf(e, "Falha ao gravar visualizações de %d itens; nova tentativa no próximo ciclo", deltas.size());
+            return 0;
+        }
+    }
+
+    /**
+     * Retira o valor atual de cada acumulador subtraindo exatamente o que foi lido,
+     * de modo que incrementos concorrentes permanecem para o próximo ciclo.
+     */
+    private Map<Long, Long> retirarDeltas() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendentes.forEach((itemId, acumulador) -> {
+            long delta = acumulador.sum();
+            if (delta != 0) {
+                acumulador.add(-delta);
+                deltas.put(itemId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private void gravarEmLote(Map<Long, Long> deltas) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        entityManager.unwrap(Session.class).doWork(conexao -> {
+            try (PreparedStatement comando = conexao.prepareStatement(MERGE_CONTADOR)) {
+                for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                    comando.setLong(1, delta.getKey());
+                    comando.setLong(2, delta.getValue());
+                    comando.setTimestamp(3, agora);
+                    comando.addBatch();
+                }
+                comando.executeBatch();
+            }
+        });
+    }
+
+    void aoAlterarItem(@Observes(during = TransactionPhase.AFTER_SUCCESS) ItemCulturalAlterado evento) {
+        if (evento.removido()) {
+            pendentes.remove(evento.itemId());
+        }
+    }
+
+    // ========================================================================
+    // Consultas
+    // ========================================================================
+
+    /**
+     * Total de visualizações do item, incluindo as ainda não gravadas.
+     */
+    public long contarVisualizacoes(Long itemId) {
+        Long gravadas = entityManager.createQuery(
+                "SELECT c.total FROM ContadorVisualizacao c WHERE c.itemCulturalId = :itemId", Long.class)
+                .setParameter("itemId", itemId)
+                .getResultStream()
+                .findFirst()
+                .orElse(0L);
+        return gravadas + pendentesDo(itemId);
+    }
+
+    /**
+     * Itens ativos mais vistos, pela contagem gravada. As visualizações ainda em
+     * memória são somadas ao resultado, mas não influenciam a seleção.
+     */
+    public List<ItemVisualizacoesDTO> listarMaisVistos(int limite) {
+        return entityManager.createQuery(
+                "SELECT c.itemCulturalId, c.total FROM ContadorVisualizacao c, ItemCultural i " +
+                "WHERE i.id = c.itemCulturalId AND i.ativo = true " +
+                "ORDER BY c.total DESC, c.itemCulturalId", Object[].class)
+                .setMaxResults(limite)
+                .getResultStream()
+                .map(linha -> new ItemVisualizacoesDTO((Long) linha[0],
+                        (Long) linha[1] + pendentesDo((Long) linha[0])))
+                .toList();
+    }
+
+    private long pendentesDo(Long itemId) {
+        LongAdder acumulador = pendentes.get(itemId);
+        return acumulador != null ? acumulador.sum() : 0;
+    }
+}
@@ -0,0 +1,11 @@
+-- ============================================================================
+-- Invalidação do cache de autenticação entre instâncias
+-- ============================================================================
+-- Cada alteração confirmada de status, roles ou senha grava aqui o nome de
+-- usuário; as instâncias releem a tabela a intervalos curtos e descartam as
+-- credenciais em cache. Linhas mais antigas que o TTL do cache são descartadas.
+
+CREATE TABLE IF NOT EXISTS credenciais_alteradas (
+    nome_usuario VARCHAR(30)              NOT NULL PRIMARY KEY,
+    alterado_em  TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,48 @@
+-- ============================================================================
+-- Buscas case-insensitive sem LOWER() na coluna indexada
+-- ============================================================================
+-- tags.nome e usuarios.email passam a ser gravados já normalizados
+-- (minúsculas, sem espaços nas pontas), de modo que as consultas comparam
+-- por igualdade e usam os índices únicos existentes.
+
+-- ----------------------------------------------------------------------------
+-- Verificação prévia
+-- ----------------------------------------------------------------------------
+-- Linhas que só diferem por maiúsculas/espaços colidiriam nos índices únicos
+-- depois da normalização. Unificá-las automaticamente (tags com itens, usuários
+-- com avaliações) não é seguro, então a migração para com a lista dos conflitos
+-- para que sejam resolvidos manualmente antes de reexecutá-la.
+DO $$
+DECLARE
+    conflitos TEXT;
+BEGIN
+    SELECT string_agg(chave, ', ') INTO conflitos FROM (
+        SELECT 'tag "' || LOWER(TRIM(nome)) || '"' AS chave
+          FROM tags GROUP BY LOWER(TRIM(nome)) HAVING COUNT(*) > 1
+        UNION ALL
+        SELECT 'email "' || LOWER(TRIM(email)) || '"'
+          FROM usuarios GROUP BY LOWER(TRIM(email)) HAVING COUNT(*) > 1
+        UNION ALL
+        SELECT 'nome de usuário "' || LOWER(nome_usuario) || '"'
+          FROM usuarios GROUP BY LOWER(nome_usuario) HAVING COUNT(*) > 1
+    ) duplicados;
+
+    IF conflitos IS NOT NULL THEN
+        RAISE EXCEPTION 'Registros duplicados após normalização: %', conflitos;
+    END IF;
+END $$;
+
+UPDATE tags
+   SET nome = LOWER(TRIM(nome))
+ WHERE nome <> LOWER(TRIM(nome));
+
+UPDATE usuarios
+   SET email = LOWER(TRIM(email))
+ WHERE email <> LOWER(TRIM(email));
+
+-- nome_usuario preserva a grafia escolhida pelo usuário; a unicidade e as
+-- buscas case-insensitive usam um índice de expressão sobre LOWER(nome_usuario).
+-- Mudança de comportamento: "Maria" e "maria" passam a ser o mesmo nome de
+-- usuário (antes a busca e a verificação de duplicidade diferenciavam).
+CREATE UNIQUE INDEX IF NOT EXISTS uk_usuarios_nome_usuario_lower
+    ON usuarios (LOWER(nome_usuario));
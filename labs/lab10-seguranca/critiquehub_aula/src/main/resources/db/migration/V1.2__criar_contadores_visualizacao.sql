@@ -0,0 +1,16 @@
+-- ============================================================================
+-- Contadores de visualização por item cultural
+-- ============================================================================
+-- Os acessos são acumulados em memória e gravados em lote como deltas
+-- (MERGE somando ao total), nunca um UPDATE por visualização em itens_culturais.
+-- Sem chave estrangeira: um item removido apenas deixa de aparecer no ranking,
+-- que faz JOIN com itens_culturais.
+
+CREATE TABLE IF NOT EXISTS contadores_visualizacao (
+    item_cultural_id BIGINT    NOT NULL PRIMARY KEY,
+    total            BIGINT    NOT NULL,
+    atualizado_em    TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_contadores_visualizacao_total
+    ON contadores_visualizacao (total);
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- Pontos de controle da importação em lote do catálogo
+-- ============================================================================
+-- Cada lote importado atualiza sua linha na mesma transação, de modo que uma
+-- importação interrompida é retomada a partir do último lote confirmado.
+
+CREATE TABLE IF NOT EXISTS importacoes_catalogo (
+    identificador         VARCHAR(200) NOT NULL PRIMARY KEY,
+    registros_processados BIGINT       NOT NULL,
+    itens_importados      BIGINT       NOT NULL,
+    tags_criadas          BIGINT       NOT NULL,
+    registros_invalidos   BIGINT       NOT NULL,
+    concluida             BOOLEAN      NOT NULL,
+    iniciada_em           TIMESTAMP    NOT NULL,
+    atualizada_em         TIMESTAMP    NOT NULL
+);
@@ -0,0 +1,29 @@
+-- ============================================================================
+-- Índices parciais restritos às linhas ativas
+-- ============================================================================
+-- As listagens filtram ativo = true (tags, itens_culturais) ou
+-- status = 'ATIVO' (usuarios). Índices parciais contêm só essas linhas: ficam
+-- menores, cabem melhor em memória e não crescem com registros inativados.
+-- O PostgreSQL só os usa quando a consulta contém o mesmo predicado, seja
+-- escrito na query, seja aplicado pelo filtro Hibernate "apenasAtivos".
+
+-- Tags: listagem por nome, busca parcial e busca por cor
+CREATE INDEX IF NOT EXISTS idx_tags_nome_ativas
+    ON tags (nome) WHERE ativo = true;
+
+CREATE INDEX IF NOT EXISTS idx_tags_cor_ativas
+    ON tags (cor, nome) WHERE ativo = true;
+
+-- Itens culturais: listagem por tipo, busca por título e lançamentos recentes
+CREATE INDEX IF NOT EXISTS idx_itens_culturais_tipo_titulo_ativos
+    ON itens_culturais (tipo, titulo) WHERE ativo = true;
+
+CREATE INDEX IF NOT EXISTS idx_itens_culturais_titulo_ativos
+    ON itens_culturais (titulo) WHERE ativo = true;
+
+CREATE INDEX IF NOT EXISTS idx_itens_culturais_lancamento_ativos
+    ON itens_culturais (data_lancamento DESC) WHERE ativo = true;
+
+-- Usuários: listagem de ativos por data de registro
+CREATE INDEX IF NOT EXISTS idx_usuarios_data_registro_ativos
+    ON usuarios (data_registro DESC) WHERE status = 'ATIVO';
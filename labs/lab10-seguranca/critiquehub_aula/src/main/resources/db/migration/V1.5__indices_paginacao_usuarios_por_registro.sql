@@ -0,0 +1,18 @@
+-- ============================================================================
+-- Paginação por cursor nas listagens de usuários por data de registro
+-- ============================================================================
+-- As listagens ordenam por (data_registro, id) decrescente e continuam a partir
+-- do último usuário da página anterior com
+--     (data_registro, id) < (:cursorData, :cursorId)
+-- Com o índice na mesma ordem, cada página é uma varredura curta a partir do
+-- cursor, independentemente da profundidade.
+
+-- Ativos: substitui o índice parcial só por data_registro (V1.4)
+CREATE INDEX IF NOT EXISTS idx_usuarios_registro_id_ativos
+    ON usuarios (data_registro DESC, id DESC) WHERE status = 'ATIVO';
+
+DROP INDEX IF EXISTS idx_usuarios_data_registro_ativos;
+
+-- Período de registro (todos os status)
+CREATE INDEX IF NOT EXISTS idx_usuarios_registro_id
+    ON usuarios (data_registro DESC, id DESC);
@@ -0,0 +1,23 @@
+-- ============================================================================
+-- Relações "segue" entre usuários (timeline da página inicial)
+-- ============================================================================
+-- A chave primária (seguidor_id, seguido_id) atende "quem eu sigo"; o índice
+-- inverso atende "quem me segue", usado na distribuição das atividades.
+
+CREATE TABLE IF NOT EXISTS seguidores (
+    seguidor_id BIGINT    NOT NULL REFERENCES usuarios (id) ON DELETE CASCADE,
+    seguido_id  BIGINT    NOT NULL REFERENCES usuarios (id) ON DELETE CASCADE,
+    data_inicio TIMESTAMP NOT NULL,
+    PRIMARY KEY (seguidor_id, seguido_id),
+    CHECK (seguidor_id <> seguido_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_seguidores_seguido
+    ON seguidores (seguido_id, seguidor_id);
+
+-- Montagem de timelines: atividades mais recentes de um conjunto de autores
+CREATE INDEX IF NOT EXISTS idx_avaliacoes_usuario_data_publicas
+    ON avaliacoes (usuario_id, data_avaliacao DESC) WHERE publica = true;
+
+CREATE INDEX IF NOT EXISTS idx_comentarios_autor_data
+    ON comentarios (autor_id, data_comentario DESC);
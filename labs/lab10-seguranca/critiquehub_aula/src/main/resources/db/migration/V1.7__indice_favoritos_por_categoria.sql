@@ -0,0 +1,8 @@
+-- ============================================================================
+-- Favoritos do usuário por categoria
+-- ============================================================================
+-- Atende o resumo por categoria (GROUP BY categoria) e a listagem paginada de
+-- uma categoria ordenada pela data de inclusão, sem ler os demais favoritos.
+
+CREATE INDEX IF NOT EXISTS idx_lista_favoritos_usuario_categoria_data
+    ON lista_favoritos (usuario_id, categoria, data_adicao DESC, item_cultural_id DESC);
@@ -0,0 +1,19 @@
+-- ============================================================================
+-- Contadores de favoritos por item e categoria
+-- ============================================================================
+-- Mantidos na mesma transação que altera lista_favoritos, evitando COUNT sobre
+-- lista_favoritos para cada card exibido. Sem chave estrangeira, como em
+-- contadores_visualizacao: a reconstrução periódica descarta itens removidos.
+
+CREATE TABLE IF NOT EXISTS contadores_favoritos (
+    item_cultural_id BIGINT      NOT NULL,
+    categoria        VARCHAR(50) NOT NULL,
+    total            BIGINT      NOT NULL,
+    PRIMARY KEY (item_cultural_id, categoria)
+);
+
+INSERT INTO contadores_favoritos (item_cultural_id, categoria, total)
+SELECT item_cultural_id, categoria, COUNT(*)
+  FROM lista_favoritos
+ GROUP BY item_cultural_id, categoria
+ON CONFLICT (item_cultural_id, categoria) DO NOTHING;
@@ -0,0 +1,11 @@
+-- ============================================================================
+-- Revogação de tokens de sessão
+-- ============================================================================
+-- Uma linha por usuário suspenso, inativado ou removido: tokens emitidos até
+-- revogado_em são recusados. Sem chave estrangeira para sobreviver à remoção do
+-- usuário; linhas mais antigas que a validade de um token são descartadas.
+
+CREATE TABLE IF NOT EXISTS tokens_revogados (
+    usuario_id  BIGINT                   NOT NULL PRIMARY KEY,
+    revogado_em TIMESTAMP WITH TIME ZONE NOT NULL
+);
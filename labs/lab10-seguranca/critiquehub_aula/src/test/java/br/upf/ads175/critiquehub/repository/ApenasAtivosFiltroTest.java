@@ -0,0 +1,73 @@
+package br.upf.ads175.critiquehub.repository;
+
+import br.upf.ads175.critiquehub.dto.TagResumoDTO;
+import br.upf.ads175.critiquehub.entity.model.Tag;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Testes do filtro apenasAtivos (@ApenasAtivos)")
+class ApenasAtivosFiltroTest {
+
+    private static final String PREFIXO = "filtro-";
+
+    @Inject
+    TagRepository tagRepository;
+
+    @BeforeEach
+    void prepararTags() {
+        // Given: 10 tags com o prefixo, 80% inativas
+        QuarkusTransaction.requiringNew().run(() -> {
+            tagRepository.delete("nome LIKE ?1", PREFIXO + "%");
+            for (int i = 0; i < 10; i++) {
+                Tag tag = new Tag(PREFIXO + i);
+                tag.setAtivo(i < 2);
+                tagRepository.persist(tag);
+            }
+        });
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Listagens anotadas devem retornar apenas tags ativas")
+    void deveAplicarFiltroNasListagensAnotadas() {
+        List<Tag> ativas = tagRepository.findByNomeParcial(PREFIXO);
+        assertEquals(2, ativas.size());
+        assertTrue(ativas.stream().allMatch(Tag::getAtivo));
+
+        List<TagResumoDTO> resumos = tagRepository.findByNomeParcialResumo(PREFIXO);
+        assertEquals(2, resumos.size());
+
+        assertTrue(tagRepository.findByNomeAtiva(PREFIXO + 0).isPresent());
+        assertTrue(tagRepository.findByNomeAtiva(PREFIXO + 9).isEmpty());
+    }
+
+    @Test
+    @DisplayName("O filtro deve valer também quando chamado fora de transação")
+    void deveAplicarFiltroSemTransacao() {
+        assertEquals(2, tagRepository.findByNomeParcial(PREFIXO).size());
+        assertFalse(tagRepository.existsByNomeAtiva(PREFIXO + 5));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("O filtro não deve vazar para métodos sem a anotação")
+    void naoDeveAplicarFiltroForaDosMetodosAnotados() {
+        tagRepository.findAllAtivas();
+
+        assertEquals(10, tagRepository.count("nome LIKE ?1", PREFIXO + "%"));
+        assertEquals(8, tagRepository.findAllInativas().stream()
+                .filter(tag -> tag.getNome().startsWith(PREFIXO))
+                .count());
+        assertTrue(tagRepository.findByNome(PREFIXO + 9).isPresent());
+    }
+}
@@ -0,0 +1,112 @@
+package br.upf.ads175.critiquehub.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Banco dos benchmarks de consultas.
+ *
+ * Por padrão, H2 em memória no modo PostgreSQL, que não tem índices parciais
+ * nem de expressão (nesses casos o plano impresso mostra a varredura). Para
+ * medir no PostgreSQL, informar a conexão por propriedades de sistema; cada
+ * benchmark usa um schema próprio, recriado no início e removido no fim:
+ * <pre>
+ * -Dcritiquehub.benchmark.url=jdbc:postgresql://localhost:5432/critiquehub
+ * -Dcritiquehub.benchmark.usuario=critiquehub_user
+ * -Dcritiquehub.benchmark.senha=...
+ * </pre>
+ */
+final class BancoBenchmark {
+
+    private static final String URL_POSTGRES = System.getProperty("critiquehub.benchmark.url");
+    private static final String USUARIO = System.getProperty("critiquehub.benchmark.usuario", "critiquehub_user");
+    private static final String SENHA = System.getProperty("critiquehub.benchmark.senha", "");
+
+    private BancoBenchmark() {
+    }
+
+    static boolean isPostgres() {
+        return URL_POSTGRES != null;
+    }
+
+    /**
+     * URL JDBC do banco do benchmark (no PostgreSQL, já no schema próprio).
+     */
+    static String url(String nome) {
+        if (!isPostgres()) {
+            return "jdbc:h2:mem:" + nome + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+        }
+        return URL_POSTGRES + (URL_POSTGRES.contains("?") ? "&" : "?") + "currentSchema=" + schema(nome);
+    }
+
+    static String usuario() {
+        return isPostgres() ? USUARIO : "sa";
+    }
+
+    static String senha() {
+        return isPostgres() ? SENHA : "";
+    }
+
+    /**
+     * Abre a conexão do benchmark, recriando o schema próprio no PostgreSQL.
+     */
+    static Connection conectar(String nome) throws SQLException {
+        if (isPostgres()) {
+            try (Connection conexao = DriverManager.getConnection(URL_POSTGRES, USUARIO, SENHA);
+                 Statement ddl = conexao.createStatement()) {
+                ddl.execute("DROP SCHEMA IF EXISTS " + schema(nome) + " CASCADE");
+                ddl.execute("CREATE SCHEMA " + schema(nome));
+            }
+        }
+        return DriverManager.getConnection(url(nome), usuario(), senha());
+    }
+
+    /**
+     * Remove as tabelas do benchmark e fecha a conexão.
+     */
+    static void encerrar(Connection conexao, String nome) throws SQLException {
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute(isPostgres() ? "DROP SCHEMA " + schema(nome) + " CASCADE" : "DROP ALL OBJECTS");
+        } finally {
+            conexao.close();
+        }
+    }
+
+    /**
+     * Atualiza as estatísticas do planejador após a carga (só no PostgreSQL).
+     */
+    static void analisar(Connection conexao) throws SQLException {
+        if (isPostgres()) {
+            try (Statement comando = conexao.createStatement()) {
+                comando.execute("ANALYZE");
+            }
+        }
+    }
+
+    /**
+     * Executa a consulta com EXPLAIN ANALYZE e imprime o plano.
+     */
+    static void explicar(Connection conexao, String consulta, Object... parametros) throws SQLException {
+        String prefixo = isPostgres() ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ANALYZE ";
+        try (PreparedStatement explain = conexao.prepareStatement(prefixo + consulta)) {
+            for (int i = 0; i < parametros.length; i++) {
+                explain.setObject(i + 1, parametros[i]);
+            }
+            StringBuilder plano = new StringBuilder("\n# ").append(consulta.strip()).append('\n');
+            try (ResultSet linhas = explain.executeQuery()) {
+                while (linhas.next()) {
+                    plano.append(linhas.getString(1)).append('\n');
+                }
+            }
+            System.out.print(plano);
+        }
+    }
+
+    private static String schema(String nome) {
+        return "benchmark_" + nome.replace('-', '_');
+    }
+}
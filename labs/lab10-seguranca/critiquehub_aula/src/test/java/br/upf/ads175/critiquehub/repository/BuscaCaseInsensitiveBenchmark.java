@@ -0,0 +1,162 @@
+package br.upf.ads175.critiquehub.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buscas por e-mail, nome de tag e nome de usuário com {@code linhas} registros
+ * (um milhão por padrão): {@code LOWER(coluna) = LOWER(?)}, como antes de V1.1,
+ * contra a igualdade sobre a coluna normalizada, como em UsuarioRepository e
+ * TagRepository, que usa os índices únicos existentes.
+ *
+ * {@code nomeUsuarioPorIndiceDeExpressao} é a busca de {@code Usuario.buscarPorNomeUsuario},
+ * atendida no PostgreSQL pelo índice sobre {@code LOWER(nome_usuario)} de V1.1;
+ * o H2 não tem índices de expressão e varre a tabela. Os planos das consultas
+ * são impressos ao fim da preparação (ver {@link BancoBenchmark} para rodar no
+ * PostgreSQL).
+ *
+ * Executar com {@code mvn test-compile} e depois a classe {@link #main(String[])}
+ * (não roda no {@code mvn test}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuscaCaseInsensitiveBenchmark {
+
+    private static final String NOME = "busca-case-insensitive";
+
+    private static final String EMAIL_COM_LOWER = "SELECT id FROM usuarios WHERE LOWER(email) = LOWER(?)";
+    private static final String EMAIL_NORMALIZADO = "SELECT id FROM usuarios WHERE email = ?";
+    private static final String TAG_COM_LOWER = "SELECT id FROM tags WHERE LOWER(nome) = LOWER(?)";
+    private static final String TAG_NORMALIZADA = "SELECT id FROM tags WHERE nome = ?";
+    private static final String NOME_USUARIO_LOWER = "SELECT id FROM usuarios WHERE LOWER(nome_usuario) = ?";
+
+    @Param({"1000000"})
+    int linhas;
+
+    private Connection conexao;
+    private PreparedStatement emailComLower;
+    private PreparedStatement emailNormalizado;
+    private PreparedStatement tagComLower;
+    private PreparedStatement tagNormalizada;
+    private PreparedStatement nomeUsuarioLower;
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        conexao = BancoBenchmark.conectar(NOME);
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("""
+                    CREATE TABLE usuarios (
+                        id           BIGINT PRIMARY KEY,
+                        email        VARCHAR(255) NOT NULL UNIQUE,
+                        nome_usuario VARCHAR(30)  NOT NULL
+                    )""");
+            ddl.execute("""
+                    CREATE TABLE tags (
+                        id   BIGINT PRIMARY KEY,
+                        nome VARCHAR(50) NOT NULL UNIQUE
+                    )""");
+            ddl.execute("""
+                    INSERT INTO usuarios (id, email, nome_usuario)
+                    SELECT x, 'usuario' || x || '@teste.com', 'Usuario' || x
+                      FROM generate_series(1, %d) AS s(x)""".formatted(linhas));
+            ddl.execute("""
+                    INSERT INTO tags (id, nome)
+                    SELECT x, 'tag' || x
+                      FROM generate_series(1, %d) AS s(x)""".formatted(linhas));
+            if (BancoBenchmark.isPostgres()) {
+                ddl.execute("CREATE UNIQUE INDEX uk_usuarios_nome_usuario_lower ON usuarios (LOWER(nome_usuario))");
+            }
+        }
+        BancoBenchmark.analisar(conexao);
+
+        int amostra = linhas / 2;
+        BancoBenchmark.explicar(conexao, EMAIL_COM_LOWER, "Usuario" + amostra + "@teste.com");
+        BancoBenchmark.explicar(conexao, EMAIL_NORMALIZADO, "usuario" + amostra + "@teste.com");
+        BancoBenchmark.explicar(conexao, TAG_COM_LOWER, "Tag" + amostra);
+        BancoBenchmark.explicar(conexao, TAG_NORMALIZADA, "tag" + amostra);
+        BancoBenchmark.explicar(conexao, NOME_USUARIO_LOWER, "usuario" + amostra);
+
+        emailComLower = conexao.prepareStatement(EMAIL_COM_LOWER);
+        emailNormalizado = conexao.prepareStatement(EMAIL_NORMALIZADO);
+        tagComLower = conexao.prepareStatement(TAG_COM_LOWER);
+        tagNormalizada = conexao.prepareStatement(TAG_NORMALIZADA);
+        nomeUsuarioLower = conexao.prepareStatement(NOME_USUARIO_LOWER);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException {
+        BancoBenchmark.encerrar(conexao, NOME);
+    }
+
+    @Benchmark
+    public long emailComLower() throws SQLException {
+        return buscar(emailComLower, "Usuario" + sortear() + "@teste.com");
+    }
+
+    @Benchmark
+    public long emailNormalizado() throws SQLException {
+        return buscar(emailNormalizado, "usuario" + sortear() + "@teste.com");
+    }
+
+    @Benchmark
+    public long tagComLower() throws SQLException {
+        return buscar(tagComLower, "Tag" + sortear());
+    }
+
+    @Benchmark
+    public long tagNormalizada() throws SQLException {
+        return buscar(tagNormalizada, "tag" + sortear());
+    }
+
+    @Benchmark
+    public long nomeUsuarioPorIndiceDeExpressao() throws SQLException {
+        return buscar(nomeUsuarioLower, "usuario" + sortear());
+    }
+
+    private int sortear() {
+        return ThreadLocalRandom.current().nextInt(linhas) + 1;
+    }
+
+    private static long buscar(PreparedStatement consulta, String valor) throws SQLException {
+        consulta.setString(1, valor);
+        try (ResultSet resultado = consulta.executeQuery()) {
+            if (!resultado.next()) {
+                throw new IllegalStateException("Registro não encontrado: " + valor);
+            }
+            return resultado.getLong(1);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BuscaCaseInsensitiveBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,226 @@
+package br.upf.ads175.critiquehub.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listagens das linhas ativas com {@code percentualInativos} dos registros
+ * inativados (80% por padrão): índices parciais de V1.4 e V1.5, restritos às
+ * linhas ativas, contra índices completos nas mesmas colunas. As consultas são
+ * as de {@code Tag.listarAtivas} por cor, {@code ItemCultural.listarPorTipo} e
+ * {@code Usuario.listarAtivos}, paginadas a partir de uma página sorteada.
+ *
+ * Os planos das consultas, e no PostgreSQL o tamanho de cada índice, são
+ * impressos ao fim da preparação. O H2 não aceita índices parciais: nele as duas
+ * variantes criam o mesmo índice completo, e a comparação só vale no PostgreSQL
+ * (ver {@link BancoBenchmark}).
+ *
+ * Executar com {@code mvn test-compile} e depois a classe {@link #main(String[])}
+ * (não roda no {@code mvn test}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndicesParciaisBenchmark {
+
+    private static final String NOME = "indices-parciais";
+    private static final int TAMANHO_PAGINA = 50;
+    private static final int PAGINAS = 100;
+
+    private static final String TAGS_POR_COR = """
+            SELECT id, nome FROM tags
+             WHERE cor = ? AND ativo = true
+             ORDER BY nome
+             LIMIT 50 OFFSET ?""";
+    private static final String ITENS_POR_TIPO = """
+            SELECT id, titulo FROM itens_culturais
+             WHERE tipo = ? AND ativo = true
+             ORDER BY titulo
+             LIMIT 50 OFFSET ?""";
+    private static final String USUARIOS_ATIVOS = """
+            SELECT id, nome_usuario FROM usuarios
+             WHERE status = 'ATIVO'
+             ORDER BY data_registro DESC, id DESC
+             LIMIT 50 OFFSET ?""";
+
+    private static final String[] CORES = {"#E53935", "#1E88E5", "#43A047", "#FDD835"};
+    private static final String[] TIPOS = {"FILME", "LIVRO", "JOGO"};
+
+    public enum Indice { PARCIAL, COMPLETO }
+
+    @Param({"PARCIAL", "COMPLETO"})
+    Indice indice;
+
+    @Param({"80"})
+    int percentualInativos;
+
+    @Param({"1000000"})
+    int linhas;
+
+    private Connection conexao;
+    private PreparedStatement tagsPorCor;
+    private PreparedStatement itensPorTipo;
+    private PreparedStatement usuariosAtivos;
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        conexao = BancoBenchmark.conectar(NOME);
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("""
+                    CREATE TABLE tags (
+                        id    BIGINT PRIMARY KEY,
+                        nome  VARCHAR(50) NOT NULL UNIQUE,
+                        cor   VARCHAR(7),
+                        ativo BOOLEAN NOT NULL
+                    )""");
+            ddl.execute("""
+                    CREATE TABLE itens_culturais (
+                        id              BIGINT PRIMARY KEY,
+                        titulo          VARCHAR(200) NOT NULL,
+                        tipo            VARCHAR(20)  NOT NULL,
+                        data_lancamento DATE,
+                        ativo           BOOLEAN      NOT NULL
+                    )""");
+            ddl.execute("""
+                    CREATE TABLE usuarios (
+                        id            BIGINT PRIMARY KEY,
+                        nome_usuario  VARCHAR(30) NOT NULL,
+                        status        VARCHAR(20) NOT NULL,
+                        data_registro DATE        NOT NULL
+                    )""");
+
+            String ativo = "MOD(x, 100) >= " + percentualInativos;
+            ddl.execute("""
+                    INSERT INTO tags (id, nome, cor, ativo)
+                    SELECT x, 'tag' || x,
+                           CASE MOD(x, 4) WHEN 0 THEN '%s' WHEN 1 THEN '%s' WHEN 2 THEN '%s' ELSE '%s' END,
+                           %s
+                      FROM generate_series(1, %d) AS s(x)"""
+                    .formatted(CORES[0], CORES[1], CORES[2], CORES[3], ativo, linhas));
+            ddl.execute("""
+                    INSERT INTO itens_culturais (id, titulo, tipo, data_lancamento, ativo)
+                    SELECT x, 'Item ' || x,
+                           CASE MOD(x, 3) WHEN 0 THEN 'FILME' WHEN 1 THEN 'LIVRO' ELSE 'JOGO' END,
+                           CAST(DATE '2000-01-01' + MOD(x, 9000) * INTERVAL '1' DAY AS DATE),
+                           %s
+                      FROM generate_series(1, %d) AS s(x)""".formatted(ativo, linhas));
+            ddl.execute("""
+                    INSERT INTO usuarios (id, nome_usuario, status, data_registro)
+                    SELECT x, 'usuario' || x,
+                           CASE WHEN %s THEN 'ATIVO' ELSE 'INATIVO' END,
+                           CAST(DATE '2015-01-01' + MOD(x, 3650) * INTERVAL '1' DAY AS DATE)
+                      FROM generate_series(1, %d) AS s(x)""".formatted(ativo, linhas));
+
+            criarIndice(ddl, "idx_tags_cor_ativas", "tags (cor, nome)", "ativo = true");
+            criarIndice(ddl, "idx_itens_culturais_tipo_titulo_ativos", "itens_culturais (tipo, titulo)",
+                    "ativo = true");
+            criarIndice(ddl, "idx_usuarios_registro_id_ativos", "usuarios (data_registro DESC, id DESC)",
+                    "status = 'ATIVO'");
+        }
+        BancoBenchmark.analisar(conexao);
+
+        int deslocamento = PAGINAS / 2 * TAMANHO_PAGINA;
+        BancoBenchmark.explicar(conexao, TAGS_POR_COR, CORES[0], deslocamento);
+        BancoBenchmark.explicar(conexao, ITENS_POR_TIPO, TIPOS[0], deslocamento);
+        BancoBenchmark.explicar(conexao, USUARIOS_ATIVOS, deslocamento);
+        imprimirTamanhoIndices();
+
+        tagsPorCor = conexao.prepareStatement(TAGS_POR_COR);
+        itensPorTipo = conexao.prepareStatement(ITENS_POR_TIPO);
+        usuariosAtivos = conexao.prepareStatement(USUARIOS_ATIVOS);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException {
+        BancoBenchmark.encerrar(conexao, NOME);
+    }
+
+    @Benchmark
+    public int tagsPorCor() throws SQLException {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        tagsPorCor.setString(1, CORES[aleatorio.nextInt(CORES.length)]);
+        tagsPorCor.setInt(2, aleatorio.nextInt(PAGINAS) * TAMANHO_PAGINA);
+        return contar(tagsPorCor);
+    }
+
+    @Benchmark
+    public int itensPorTipo() throws SQLException {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        itensPorTipo.setString(1, TIPOS[aleatorio.nextInt(TIPOS.length)]);
+        itensPorTipo.setInt(2, aleatorio.nextInt(PAGINAS) * TAMANHO_PAGINA);
+        return contar(itensPorTipo);
+    }
+
+    @Benchmark
+    public int usuariosAtivos() throws SQLException {
+        usuariosAtivos.setInt(1, ThreadLocalRandom.current().nextInt(PAGINAS) * TAMANHO_PAGINA);
+        return contar(usuariosAtivos);
+    }
+
+    private void criarIndice(Statement ddl, String nome, String colunas, String predicado) throws SQLException {
+        boolean parcial = indice == Indice.PARCIAL && BancoBenchmark.isPostgres();
+        ddl.execute("CREATE INDEX " + nome + " ON " + colunas + (parcial ? " WHERE " + predicado : ""));
+    }
+
+    private void imprimirTamanhoIndices() throws SQLException {
+        if (!BancoBenchmark.isPostgres()) {
+            return;
+        }
+        try (Statement consulta = conexao.createStatement();
+             ResultSet indices = consulta.executeQuery("""
+                     SELECT indexrelname, pg_size_pretty(pg_relation_size(indexrelid))
+                       FROM pg_stat_user_indexes
+                      WHERE schemaname = current_schema()
+                      ORDER BY indexrelname""")) {
+            System.out.println("\n# Índices (" + indice + ")");
+            while (indices.next()) {
+                System.out.println(indices.getString(1) + ": " + indices.getString(2));
+            }
+        }
+    }
+
+    private static int contar(PreparedStatement consulta) throws SQLException {
+        int registros = 0;
+        try (ResultSet resultado = consulta.executeQuery()) {
+            while (resultado.next()) {
+                registros++;
+            }
+        }
+        if (registros != TAMANHO_PAGINA) {
+            throw new IllegalStateException("Página incompleta: " + registros + " registros");
+        }
+        return registros;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IndicesParciaisBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
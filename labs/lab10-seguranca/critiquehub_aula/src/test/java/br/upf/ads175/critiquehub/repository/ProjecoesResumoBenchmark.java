@@ -0,0 +1,202 @@
+package br.upf.ads175.critiquehub.repository;
+
+import br.upf.ads175.critiquehub.dto.AvaliacaoResumoDTO;
+import br.upf.ads175.critiquehub.dto.UsuarioResumoDTO;
+import br.upf.ads175.critiquehub.entity.enums.StatusConsumo;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.entity.model.Avaliacao;
+import br.upf.ads175.critiquehub.entity.model.Comentario;
+import br.upf.ads175.critiquehub.entity.model.ItemCultural;
+import br.upf.ads175.critiquehub.entity.model.ListaFavoritos;
+import br.upf.ads175.critiquehub.entity.model.Tag;
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import jakarta.persistence.PrePersist;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.tool.schema.Action;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listagens com entidades gerenciadas contra as projeções em DTO usadas pelos
+ * repositórios: {@code Usuario.listarAtivos} contra {@link UsuarioRepository#SELECAO_RESUMO},
+ * e {@code Avaliacao.buscarPorUsuario} contra {@code Avaliacao.listarResumoPorUsuario}.
+ * Cada operação roda em uma transação confirmada, para que o dirty checking das
+ * entidades no flush entre na conta. {@link #main(String[])} liga o GCProfiler:
+ * {@code gc.alloc.rate.norm} dá os bytes alocados por listagem.
+ *
+ * Usa o Hibernate fora do Quarkus, com as próprias entidades e as mesmas
+ * configurações relevantes (lotes de 16 e sem cache de segundo nível, que
+ * esconderia o custo de carregar as entidades). Os callbacks JPA ficam
+ * desligados porque os listeners dependem de CDI; os métodos {@link PrePersist}
+ * das entidades são chamados na carga. Ver {@link BancoBenchmark} para rodar no
+ * PostgreSQL.
+ *
+ * Executar com {@code mvn test-compile} e depois a classe {@link #main(String[])}
+ * (não roda no {@code mvn test}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjecoesResumoBenchmark {
+
+    private static final String NOME = "projecoes-resumo";
+    private static final int USUARIOS = 5000;
+    private static final int LOTE = 500;
+
+    /**
+     * Tamanho da página de usuários e quantidade de avaliações do usuário listado.
+     */
+    @Param({"50", "500"})
+    int registros;
+
+    private SessionFactory sessionFactory;
+    private Long usuarioAvaliadorId;
+
+    @Setup(Level.Trial)
+    public void preparar() throws Exception {
+        BancoBenchmark.conectar(NOME).close();
+        sessionFactory = new HibernatePersistenceConfiguration(NOME)
+                .managedClasses(Usuario.class, ItemCultural.class, Tag.class, Avaliacao.class,
+                        Comentario.class, ListaFavoritos.class)
+                .jdbcUrl(BancoBenchmark.url(NOME))
+                .jdbcCredentials(BancoBenchmark.usuario(), BancoBenchmark.senha())
+                .schemaToolingAction(Action.CREATE_DROP)
+                .property("hibernate.jpa_callbacks.enabled", false)
+                .property("hibernate.cache.use_second_level_cache", false)
+                .property("hibernate.default_batch_fetch_size", 16)
+                .property("hibernate.jdbc.batch_size", 50)
+                .createEntityManagerFactory();
+
+        List<Usuario> usuarios = new ArrayList<>();
+        for (int i = 0; i < USUARIOS; i++) {
+            Usuario usuario = new Usuario("usuario" + i + "@teste.com", "usuario" + i, "Usuário " + i);
+            usuario.setSenha("senha-benchmark");
+            usuario.setRoles(Set.of("USER"));
+            usuario.setBiografia("Biografia do usuário " + i);
+            usuarios.add(usuario);
+        }
+        persistir(usuarios);
+        usuarioAvaliadorId = usuarios.get(0).getId();
+
+        List<ItemCultural> itens = new ArrayList<>();
+        for (int i = 0; i < registros; i++) {
+            ItemCultural item = new ItemCultural("Item " + i, TipoItem.values()[i % TipoItem.values().length],
+                    LocalDate.of(2000, 1, 1).plusDays(i));
+            item.setSinopse("Sinopse do item " + i);
+            itens.add(item);
+        }
+        persistir(itens);
+
+        List<Avaliacao> avaliacoes = new ArrayList<>();
+        for (ItemCultural item : itens) {
+            Avaliacao avaliacao = new Avaliacao(usuarios.get(0), item, 1 + avaliacoes.size() % 10,
+                    StatusConsumo.FINALIZADO);
+            avaliacao.setResenha("Resenha do item " + item.getTitulo());
+            avaliacoes.add(avaliacao);
+        }
+        persistir(avaliacoes);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws Exception {
+        sessionFactory.close();
+        BancoBenchmark.encerrar(BancoBenchmark.conectar(NOME), NOME);
+    }
+
+    @Benchmark
+    public List<Usuario> usuariosEntidades() {
+        return sessionFactory.fromTransaction(sessao -> sessao
+                .createNamedQuery("Usuario.listarAtivos", Usuario.class)
+                .setMaxResults(registros)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<UsuarioResumoDTO> usuariosProjecao() {
+        return sessionFactory.fromTransaction(sessao -> sessao
+                .createQuery(UsuarioRepository.SELECAO_RESUMO + " FROM Usuario u WHERE u.status = 'ATIVO' "
+                        + UsuarioRepository.ORDENACAO_REGISTRO, UsuarioResumoDTO.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(registros)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<Avaliacao> avaliacoesEntidades() {
+        return sessionFactory.fromTransaction(sessao -> sessao
+                .createNamedQuery("Avaliacao.buscarPorUsuario", Avaliacao.class)
+                .setParameter("usuarioId", usuarioAvaliadorId)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<AvaliacaoResumoDTO> avaliacoesProjecao() {
+        return sessionFactory.fromTransaction(sessao -> sessao
+                .createNamedQuery("Avaliacao.listarResumoPorUsuario", AvaliacaoResumoDTO.class)
+                .setParameter("usuarioId", usuarioAvaliadorId)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList());
+    }
+
+    private void persistir(List<?> entidades) {
+        for (int inicio = 0; inicio < entidades.size(); inicio += LOTE) {
+            List<?> lote = entidades.subList(inicio, Math.min(inicio + LOTE, entidades.size()));
+            sessionFactory.inTransaction(sessao -> lote.forEach(entidade -> {
+                executarPrePersist(entidade);
+                sessao.persist(entidade);
+            }));
+        }
+    }
+
+    private static void executarPrePersist(Object entidade) {
+        for (Class<?> tipo = entidade.getClass(); tipo != Object.class; tipo = tipo.getSuperclass()) {
+            for (Method metodo : tipo.getDeclaredMethods()) {
+                if (metodo.isAnnotationPresent(PrePersist.class)) {
+                    try {
+                        metodo.setAccessible(true);
+                        metodo.invoke(entidade);
+                    } catch (IllegalAccessException | InvocationTargetException e) {
+                        throw new IllegalStateException("Falha no @PrePersist de " + tipo.getSimpleName(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProjecoesResumoBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,125 @@
+package br.upf.ads175.critiquehub.repository;
+
+import br.upf.ads175.critiquehub.dto.FavoritoResumoDTO;
+import br.upf.ads175.critiquehub.dto.TagResumoDTO;
+import br.upf.ads175.critiquehub.dto.UsuarioResumoDTO;
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.entity.model.ItemCultural;
+import br.upf.ads175.critiquehub.entity.model.Tag;
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import br.upf.ads175.critiquehub.service.FavoritosService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Testes das projeções de listagem (records somente leitura)")
+class ProjecoesResumoTest {
+
+    private static final String PREFIXO = "projecao-";
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    UsuarioRepository usuarioRepository;
+
+    @Inject
+    TagRepository tagRepository;
+
+    @Inject
+    FavoritosService favoritosService;
+
+    private Long usuarioId;
+    private Long itemId;
+
+    @BeforeEach
+    void prepararDados() {
+        // Given: um usuário com roles, um item favoritado e tags com o prefixo
+        String sufixo = Long.toString(System.nanoTime());
+        QuarkusTransaction.requiringNew().run(() -> {
+            tagRepository.delete("nome LIKE ?1", PREFIXO + "%");
+            for (int i = 0; i < 3; i++) {
+                tagRepository.persist(new Tag(PREFIXO + i));
+            }
+
+            Usuario usuario = new Usuario("proj" + sufixo + "@teste.com", "proj" + sufixo, "Projeção " + sufixo);
+            usuario.setSenha("senha-de-teste");
+            usuario.setRoles(Set.of("user"));
+            entityManager.persist(usuario);
+
+            ItemCultural item = new ItemCultural("Item " + sufixo, TipoItem.LIVRO, LocalDate.of(2021, 5, 1));
+            entityManager.persist(item);
+
+            usuarioId = usuario.getId();
+            itemId = item.getId();
+        });
+        favoritosService.adicionarAosFavoritos(usuarioId, itemId, CategoriaFavorito.RECOMENDADO, "Observação longa");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Projeção de usuários deve trazer as colunas exibidas sem carregar entidades")
+    void deveProjetarUsuariosSemCarregarEntidades() {
+        // When
+        List<UsuarioResumoDTO> resumos = usuarioRepository.buscarResumoPorNome("Projeção", false, 1000);
+
+        // Then
+        UsuarioResumoDTO resumo = resumos.stream()
+                .filter(r -> r.id().equals(usuarioId))
+                .findFirst()
+                .orElseThrow();
+        Usuario entidade = entityManager.find(Usuario.class, usuarioId);
+        assertEquals(entidade.getNomeUsuario(), resumo.nomeUsuario());
+        assertEquals(entidade.getNomeCompleto(), resumo.nomeCompleto());
+        assertEquals(StatusUsuario.ATIVO, resumo.status());
+        assertEquals(entidade.getDataRegistro(), resumo.dataRegistro());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Consultas de projeção não devem deixar entidades no contexto de persistência")
+    void naoDeveGerenciarEntidadesNasProjecoes() {
+        // When
+        usuarioRepository.buscarResumoPorNome("Projeção", false, 1000);
+        List<TagResumoDTO> tags = tagRepository.findByNomeParcialResumo(PREFIXO);
+        List<FavoritoResumoDTO> favoritos = favoritosService.listarResumoPorCategoria(usuarioId, CategoriaFavorito.RECOMENDADO);
+
+        // Then
+        assertEquals(3, tags.size());
+        assertEquals(1, favoritos.size());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Projeções de tags e favoritos devem coincidir com as consultas de entidades")
+    void deveCoincidirComConsultasDeEntidades() {
+        // When
+        List<TagResumoDTO> tags = tagRepository.findByNomeParcialResumo(PREFIXO);
+        FavoritoResumoDTO favorito = favoritosService
+                .listarResumoPorCategoria(usuarioId, CategoriaFavorito.RECOMENDADO).get(0);
+
+        // Then
+        assertEquals(tagRepository.findByNomeParcial(PREFIXO).stream().map(Tag::getNome).sorted().toList(),
+                tags.stream().map(TagResumoDTO::nome).sorted().toList());
+        assertEquals(itemId, favorito.itemId());
+        assertEquals(TipoItem.LIVRO, favorito.tipo());
+        assertEquals(CategoriaFavorito.RECOMENDADO, favorito.categoria());
+        assertNotNull(favorito.dataAdicao());
+    }
+}
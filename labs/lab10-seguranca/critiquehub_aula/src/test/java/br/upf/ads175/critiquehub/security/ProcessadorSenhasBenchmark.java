@@ -0,0 +1,94 @@
+package br.upf.ads175.critiquehub.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.elytron.security.common.BcryptUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do bcrypt por fator de custo, direto e através do {@link ProcessadorSenhas}.
+ *
+ * {@code verificarDireto} mede uma verificação isolada (latência de um login
+ * sem concorrência); {@code verificarNoProcessador} dispara logins de 8 threads
+ * contra o executor limitado, mostrando a vazão máxima e o tempo de fila para
+ * cada custo. Serve para escolher critiquehub.senhas.custo-bcrypt e
+ * critiquehub.senhas.threads no hardware de produção.
+ *
+ * Executar com {@code mvn test-compile} e depois a classe {@link #main(String[])}
+ * (não roda no {@code mvn test}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessadorSenhasBenchmark {
+
+    private static final String SENHA = "senha-do-benchmark";
+
+    @Param({"8", "10", "12"})
+    int custo;
+
+    private String hash;
+    private ProcessadorSenhas processador;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        hash = BcryptUtil.bcryptHash(SENHA, custo);
+
+        processador = new ProcessadorSenhas();
+        processador.threads = Runtime.getRuntime().availableProcessors() / 2 + 1;
+        processador.capacidadeFila = 64;
+        processador.tempoMaximo = Duration.ofSeconds(30);
+        processador.custoBcrypt = custo;
+        processador.registry = new SimpleMeterRegistry();
+        processador.iniciar();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        processador.encerrar();
+    }
+
+    @Benchmark
+    public boolean verificarDireto() {
+        return BcryptUtil.matches(SENHA, hash);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean verificarNoProcessador() {
+        return processador.verificar(SENHA, hash).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public String gerarDireto() {
+        return BcryptUtil.bcryptHash(SENHA, custo);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProcessadorSenhasBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,69 @@
+package br.upf.ads175.critiquehub.security;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Testes de revogação de TokenSessaoService")
+class TokenSessaoServiceTest {
+
+    @Inject
+    TokenSessaoService tokenSessaoService;
+
+    @Test
+    @DisplayName("Token emitido depois da revogação a partir de credenciais antigas deve ser recusado")
+    void deveRecusarTokenDeCredenciaisAnterioresARevogacao() throws Exception {
+        // Given: credenciais lidas antes da revogação (ex.: ainda em cache em outra instância)
+        Long usuarioId = System.nanoTime();
+        Instant credenciaisEm = Instant.now().minusSeconds(30);
+        tokenSessaoService.revogar(usuarioId);
+        Thread.sleep(5);
+
+        // When
+        String token = tokenSessaoService.emitir(usuarioId, "revogado", Set.of("user"), credenciaisEm);
+
+        // Then
+        assertTrue(tokenSessaoService.validar(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Token de credenciais lidas depois da revogação deve valer")
+    void deveAceitarTokenDeCredenciaisPosterioresARevogacao() throws Exception {
+        // Given
+        Long usuarioId = System.nanoTime();
+        tokenSessaoService.revogar(usuarioId);
+        Thread.sleep(5);
+
+        // When
+        String token = tokenSessaoService.emitir(usuarioId, "reativado", Set.of("user"), Instant.now());
+
+        // Then
+        TokenSessaoService.TokenSessao sessao = tokenSessaoService.validar(token).orElseThrow();
+        assertEquals(usuarioId, sessao.usuarioId());
+        assertEquals(Set.of("user"), sessao.roles());
+    }
+
+    @Test
+    @DisplayName("A releitura periódica da tabela deve preservar revogações recentes")
+    void deveManterRevogacaoAposReleitura() throws Exception {
+        // Given
+        Long usuarioId = System.nanoTime();
+        Instant credenciaisEm = Instant.now();
+        Thread.sleep(5);
+        tokenSessaoService.revogar(usuarioId);
+        String token = tokenSessaoService.emitir(usuarioId, "revogado", Set.of(), credenciaisEm);
+
+        // When
+        tokenSessaoService.carregarRevogacoes();
+
+        // Then
+        assertTrue(tokenSessaoService.validar(token).isEmpty());
+    }
+}
@@ -0,0 +1,209 @@
+package br.upf.ads175.critiquehub.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Inclusão de favorito com a atualização do contador do item, em uma transação:
+ * três buscas por chave seguidas do INSERT e do ajuste do contador (caminho
+ * antigo, cinco idas ao banco) contra o INSERT ... ON CONFLICT DO NOTHING e o
+ * ajuste (duas idas), como em {@link FavoritosService#adicionarAosFavoritos} com
+ * o observador síncrono de {@link ContadoresFavoritosService}. Os dois comandos
+ * são os próprios {@link FavoritosService#INSERIR_FAVORITO} e
+ * {@link ContadoresFavoritosService#MERGE_CONTADOR}.
+ *
+ * Roda sobre H2 em memória, no modo PostgreSQL, com as tabelas mapeadas por
+ * ListaFavoritos e criadas em V1.8; {@code latenciaRedeMicros} soma uma espera a
+ * cada comando (e ao commit) para simular a ida e volta até um banco remoto, que
+ * é onde a diferença aparece. Cada operação termina desfazendo a inclusão da
+ * mesma forma nos dois caminhos, para repetir sem crescer as tabelas.
+ *
+ * Executar com {@code mvn test-compile} e depois a classe {@link #main(String[])}
+ * (não roda no {@code mvn test}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FavoritosInsercaoBenchmark {
+
+    private static final long USUARIO_ID = 1L;
+    private static final long ITEM_ID = 1L;
+    private static final String CATEGORIA = "QUERO_ASSISTIR";
+
+    @Param({"0", "200"})
+    long latenciaRedeMicros;
+
+    private Connection conexao;
+    private PreparedStatement buscarUsuario;
+    private PreparedStatement buscarItem;
+    private PreparedStatement buscarFavorito;
+    private PreparedStatement inserir;
+    private PreparedStatement inserirSeAusente;
+    private PreparedStatement ajustarContador;
+    private PreparedStatement remover;
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        conexao = DriverManager.getConnection("jdbc:h2:mem:favoritos-benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("CREATE TABLE usuarios (id BIGINT PRIMARY KEY, nome_usuario VARCHAR(30) NOT NULL)");
+            ddl.execute("CREATE TABLE itens_culturais (id BIGINT PRIMARY KEY, titulo VARCHAR(200) NOT NULL)");
+            ddl.execute("""
+                    CREATE TABLE lista_favoritos (
+                        usuario_id       BIGINT NOT NULL REFERENCES usuarios (id),
+                        item_cultural_id BIGINT NOT NULL REFERENCES itens_culturais (id),
+                        data_adicao      TIMESTAMP NOT NULL,
+                        categoria        VARCHAR(50) NOT NULL,
+                        observacoes      VARCHAR(500),
+                        PRIMARY KEY (usuario_id, item_cultural_id)
+                    )""");
+            ddl.execute("""
+                    CREATE TABLE contadores_favoritos (
+                        item_cultural_id BIGINT      NOT NULL,
+                        categoria        VARCHAR(50) NOT NULL,
+                        total            BIGINT      NOT NULL,
+                        PRIMARY KEY (item_cultural_id, categoria)
+                    )""");
+            ddl.execute("INSERT INTO usuarios VALUES (1, 'benchmark')");
+            ddl.execute("INSERT INTO itens_culturais VALUES (1, 'Item do benchmark')");
+        }
+        conexao.setAutoCommit(false);
+
+        buscarUsuario = conexao.prepareStatement("SELECT id, nome_usuario FROM usuarios WHERE id = ?");
+        buscarItem = conexao.prepareStatement("SELECT id, titulo FROM itens_culturais WHERE id = ?");
+        buscarFavorito = conexao.prepareStatement(
+                "SELECT 1 FROM lista_favoritos WHERE usuario_id = ? AND item_cultural_id = ?");
+        inserir = conexao.prepareStatement("""
+                INSERT INTO lista_favoritos (usuario_id, item_cultural_id, data_adicao, categoria, observacoes)
+                VALUES (?, ?, ?, ?, ?)""");
+        inserirSeAusente = conexao.prepareStatement(FavoritosService.INSERIR_FAVORITO);
+        ajustarContador = conexao.prepareStatement(ContadoresFavoritosService.MERGE_CONTADOR);
+        remover = conexao.prepareStatement(
+                "DELETE FROM lista_favoritos WHERE usuario_id = ? AND item_cultural_id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException {
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("DROP ALL OBJECTS");
+        }
+        conexao.close();
+    }
+
+    @Benchmark
+    public int buscarEInserir() throws SQLException {
+        existe(buscarUsuario, USUARIO_ID);
+        existe(buscarItem, ITEM_ID);
+        buscarFavorito.setLong(1, USUARIO_ID);
+        buscarFavorito.setLong(2, ITEM_ID);
+        if (consultar(buscarFavorito)) {
+            throw new IllegalStateException("Item já está na lista de favoritos");
+        }
+        int inseridos = executar(preencher(inserir));
+        ajustarContador(1);
+        confirmar();
+        removerFavorito();
+        return inseridos;
+    }
+
+    @Benchmark
+    public int inserirSeAusente() throws SQLException {
+        int inseridos = executar(preencher(inserirSeAusente));
+        if (inseridos == 0) {
+            throw new IllegalStateException("Item já está na lista de favoritos");
+        }
+        ajustarContador(1);
+        confirmar();
+        removerFavorito();
+        return inseridos;
+    }
+
+    private void existe(PreparedStatement busca, long id) throws SQLException {
+        busca.setLong(1, id);
+        if (!consultar(busca)) {
+            throw new IllegalArgumentException("Registro não encontrado: " + id);
+        }
+    }
+
+    private PreparedStatement preencher(PreparedStatement comando) throws SQLException {
+        comando.setLong(1, USUARIO_ID);
+        comando.setLong(2, ITEM_ID);
+        comando.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+        comando.setString(4, CATEGORIA);
+        comando.setString(5, null);
+        return comando;
+    }
+
+    private void ajustarContador(long delta) throws SQLException {
+        ajustarContador.setLong(1, ITEM_ID);
+        ajustarContador.setString(2, CATEGORIA);
+        ajustarContador.setLong(3, delta);
+        executar(ajustarContador);
+    }
+
+    private void removerFavorito() throws SQLException {
+        remover.setLong(1, USUARIO_ID);
+        remover.setLong(2, ITEM_ID);
+        executar(remover);
+        ajustarContador(-1);
+        confirmar();
+    }
+
+    private void confirmar() throws SQLException {
+        simularRede();
+        conexao.commit();
+    }
+
+    private boolean consultar(PreparedStatement consulta) throws SQLException {
+        simularRede();
+        try (ResultSet resultado = consulta.executeQuery()) {
+            return resultado.next();
+        }
+    }
+
+    private int executar(PreparedStatement comando) throws SQLException {
+        simularRede();
+        return comando.executeUpdate();
+    }
+
+    private void simularRede() {
+        if (latenciaRedeMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(latenciaRedeMicros));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FavoritosInsercaoBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,97 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.entity.enums.CategoriaFavorito;
+import br.upf.ads175.critiquehub.entity.enums.TipoItem;
+import br.upf.ads175.critiquehub.entity.model.ItemCultural;
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Testes de FavoritosService.adicionarAosFavoritos")
+class FavoritosServiceTest {
+
+    @Inject
+    FavoritosService favoritosService;
+
+    @Inject
+    EntityManager entityManager;
+
+    private Long usuarioId;
+    private Long itemId;
+
+    @BeforeEach
+    void prepararUsuarioEItem() {
+        // Given: um usuário e um item recém-criados, sem favoritos
+        String sufixo = Long.toString(System.nanoTime());
+        QuarkusTransaction.requiringNew().run(() -> {
+            Usuario usuario = new Usuario("fav" + sufixo + "@teste.com", "fav" + sufixo, "Usuário Favoritos");
+            usuario.setSenha("senha-de-teste");
+            entityManager.persist(usuario);
+
+            ItemCultural item = new ItemCultural("Item " + sufixo, TipoItem.FILME, LocalDate.of(2020, 1, 1));
+            entityManager.persist(item);
+
+            usuarioId = usuario.getId();
+            itemId = item.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve inserir o favorito com a categoria informada")
+    void deveInserirComCategoriaInformada() {
+        // When
+        favoritosService.adicionarAosFavoritos(usuarioId, itemId, CategoriaFavorito.FAVORITO_ABSOLUTO, "Clássico");
+
+        // Then
+        assertEquals(CategoriaFavorito.FAVORITO_ABSOLUTO,
+                favoritosService.verificarFavoritos(usuarioId, List.of(itemId)).get(itemId));
+    }
+
+    @Test
+    @DisplayName("Sem categoria, o favorito deve entrar como QUERO_ASSISTIR")
+    void deveUsarCategoriaPadraoQuandoAusente() {
+        // When
+        favoritosService.adicionarAosFavoritos(usuarioId, itemId, null, null);
+
+        // Then
+        assertEquals(CategoriaFavorito.QUERO_ASSISTIR,
+                favoritosService.verificarFavoritos(usuarioId, List.of(itemId)).get(itemId));
+    }
+
+    @Test
+    @DisplayName("Item já favoritado deve ser recusado sem alterar o existente")
+    void deveRecusarFavoritoDuplicado() {
+        // Given
+        favoritosService.adicionarAosFavoritos(usuarioId, itemId, CategoriaFavorito.FAVORITO_ABSOLUTO, null);
+
+        // When / Then
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> favoritosService.adicionarAosFavoritos(usuarioId, itemId, CategoriaFavorito.RECOMENDADO, null));
+        assertEquals("Item já está na lista de favoritos", erro.getMessage());
+        assertEquals(CategoriaFavorito.FAVORITO_ABSOLUTO,
+                favoritosService.verificarFavoritos(usuarioId, List.of(itemId)).get(itemId));
+    }
+
+    @Test
+    @DisplayName("Usuário ou item inexistente deve gerar o erro de não encontrado correspondente")
+    void deveIdentificarReferenciaInexistente() {
+        IllegalArgumentException semItem = assertThrows(IllegalArgumentException.class,
+                () -> favoritosService.adicionarAosFavoritos(usuarioId, -1L, CategoriaFavorito.FAVORITO_ABSOLUTO, null));
+        assertEquals("Item cultural não encontrado: -1", semItem.getMessage());
+
+        IllegalArgumentException semUsuario = assertThrows(IllegalArgumentException.class,
+                () -> favoritosService.adicionarAosFavoritos(-1L, itemId, CategoriaFavorito.FAVORITO_ABSOLUTO, null));
+        assertEquals("Usuário não encontrado: -1", semUsuario.getMessage());
+    }
+}
@@ -0,0 +1,147 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ProgressoImportacaoDTO;
+import br.upf.ads175.critiquehub.entity.model.Tag;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Testes de ImportacaoCatalogoService.importar")
+class ImportacaoCatalogoServiceTest {
+
+    private static final String CABECALHO = "titulo,tipo,data_lancamento,sinopse,tags\r\n";
+
+    @Inject
+    ImportacaoCatalogoService importacaoService;
+
+    @Inject
+    EntityManager entityManager;
+
+    private String sufixo;
+
+    @BeforeEach
+    void gerarSufixo() {
+        sufixo = Long.toString(System.nanoTime());
+    }
+
+    @Test
+    @DisplayName("CSV deve aceitar vírgulas, quebras de linha e aspas entre aspas, com linhas CRLF")
+    void deveLerCamposEntreAspas() {
+        // Given
+        String csv = CABECALHO
+                + "\"Filme, com vírgula " + sufixo + "\",FILME,2020-01-01,\"Primeira linha\nSegunda linha\",\r\n"
+                + "\"Livro \"\"citado\"\" " + sufixo + "\",LIVRO,,\"\"\"Entre aspas\"\"\",\r\n"
+                + "Jogo simples " + sufixo + ",JOGO,2021-05-05,Sem aspas,\r\n";
+
+        // When
+        ProgressoImportacaoDTO progresso = importar("csv-" + sufixo, csv, null);
+
+        // Then
+        assertTrue(progresso.concluida());
+        assertEquals(3, progresso.registrosProcessados());
+        assertEquals(3, progresso.itensImportados());
+        assertEquals(0, progresso.registrosInvalidos());
+
+        Map<String, String> sinopsePorTitulo = sinopsesImportadas();
+        assertEquals(3, sinopsePorTitulo.size());
+        assertEquals("Primeira linha\nSegunda linha", sinopsePorTitulo.get("Filme, com vírgula " + sufixo));
+        assertEquals("\"Entre aspas\"", sinopsePorTitulo.get("Livro \"citado\" " + sufixo));
+        assertEquals("Sem aspas", sinopsePorTitulo.get("Jogo simples " + sufixo));
+    }
+
+    @Test
+    @DisplayName("Repetir a importação após falha deve retomar do primeiro lote não confirmado")
+    void deveRetomarAposLoteConfirmado() {
+        // Given: arquivo com um lote completo (500) e mais 100 registros
+        StringBuilder csv = new StringBuilder(CABECALHO);
+        for (int i = 0; i < 600; i++) {
+            csv.append("Item ").append(i).append(' ').append(sufixo).append(",FILME,,,\r\n");
+        }
+        String identificador = "retomada-" + sufixo;
+
+        // When: a primeira execução é interrompida logo após confirmar o primeiro lote
+        assertThrows(IllegalStateException.class, () -> importar(identificador, csv.toString(), progresso -> {
+            throw new IllegalStateException("Interrompida após " + progresso.registrosProcessados());
+        }));
+        assertEquals(500, sinopsesImportadas().size());
+
+        ProgressoImportacaoDTO progresso = importar(identificador, csv.toString(), null);
+
+        // Then: só os 100 registros restantes são inseridos, sem duplicar o primeiro lote
+        assertTrue(progresso.concluida());
+        assertEquals(600, progresso.registrosProcessados());
+        assertEquals(600, progresso.itensImportados());
+        assertEquals(600, sinopsesImportadas().size());
+
+        // And: uma nova execução com o mesmo identificador não faz nada
+        assertEquals(600, importar(identificador, csv.toString(), null).itensImportados());
+        assertEquals(600, sinopsesImportadas().size());
+    }
+
+    @Test
+    @DisplayName("Tag inativa não deve ser reativada nem associada aos itens importados")
+    void deveIgnorarTagInativa() {
+        // Given
+        String inativa = "inativa" + sufixo;
+        String nova = "nova" + sufixo;
+        QuarkusTransaction.requiringNew().run(() -> {
+            Tag tag = new Tag(inativa);
+            tag.setAtivo(false);
+            entityManager.persist(tag);
+        });
+        String csv = CABECALHO + "Item com tags " + sufixo + ",FILME,,," + inativa + "|" + nova + "\r\n";
+
+        // When
+        ProgressoImportacaoDTO progresso = importar("tags-" + sufixo, csv, null);
+
+        // Then
+        assertEquals(1, progresso.itensImportados());
+        assertEquals(1, progresso.tagsCriadas());
+        assertEquals(List.of(nova), tagsDoItem("Item com tags " + sufixo));
+        assertFalse(QuarkusTransaction.requiringNew().call(() -> entityManager.createQuery(
+                        "SELECT t.ativo FROM Tag t WHERE t.nome = :nome", Boolean.class)
+                .setParameter("nome", inativa)
+                .getSingleResult()));
+    }
+
+    private ProgressoImportacaoDTO importar(String identificador, String csv,
+                                           Consumer<ProgressoImportacaoDTO> aoProgredir) {
+        InputStream entrada = new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+        return importacaoService.importar(identificador, entrada, ImportacaoCatalogoService.Formato.CSV, aoProgredir);
+    }
+
+    private Map<String, String> sinopsesImportadas() {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            Map<String, String> sinopses = new LinkedHashMap<>();
+            entityManager.createQuery(
+                            "SELECT i.titulo, i.sinopse FROM ItemCultural i WHERE i.titulo LIKE :sufixo", Object[].class)
+                    .setParameter("sufixo", "%" + sufixo)
+                    .getResultList()
+                    .forEach(linha -> sinopses.put((String) linha[0], (String) linha[1]));
+            return sinopses;
+        });
+    }
+
+    private List<String> tagsDoItem(String titulo) {
+        return QuarkusTransaction.requiringNew().call(() -> entityManager.createQuery(
+                        "SELECT t.nome FROM ItemCultural i JOIN i.tags t WHERE i.titulo = :titulo ORDER BY t.nome",
+                        String.class)
+                .setParameter("titulo", titulo)
+                .getResultList());
+    }
+}
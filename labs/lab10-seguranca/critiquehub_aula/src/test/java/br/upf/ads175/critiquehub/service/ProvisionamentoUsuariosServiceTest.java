@@ -0,0 +1,68 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.dto.ResultadoProvisionamentoDTO;
+import br.upf.ads175.critiquehub.dto.UsuarioProvisionamentoDTO;
+import br.upf.ads175.critiquehub.entity.enums.StatusUsuario;
+import br.upf.ads175.critiquehub.entity.model.Usuario;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Testes de ProvisionamentoUsuariosService")
+class ProvisionamentoUsuariosServiceTest {
+
+    @Inject
+    ProvisionamentoUsuariosService provisionamentoService;
+
+    @Inject
+    UsuarioService usuarioService;
+
+    @Test
+    @DisplayName("Usuário provisionado deve poder ser atualizado e suspenso pela entidade")
+    void devePermitirSuspenderUsuarioProvisionado() {
+        // Given
+        String sufixo = Long.toString(System.nanoTime());
+        List<ResultadoProvisionamentoDTO> resultados = provisionamentoService.provisionar(
+                List.of(new UsuarioProvisionamentoDTO("prov" + sufixo + "@teste.com", "prov" + sufixo, "Provisionado")),
+                Set.of("user"));
+        assertEquals(ResultadoProvisionamentoDTO.Situacao.CRIADO, resultados.get(0).situacao());
+        Long id = resultados.get(0).usuarioId();
+
+        // When
+        usuarioService.atualizarPerfil(id, "Provisionado Atualizado", null);
+        usuarioService.alterarStatus(id, StatusUsuario.SUSPENSO);
+
+        // Then
+        Usuario usuario = usuarioService.buscarPorIdObrigatorio(id);
+        assertEquals(StatusUsuario.SUSPENSO, usuario.getStatus());
+        assertEquals("Provisionado Atualizado", usuario.getNomeCompleto());
+    }
+
+    @Test
+    @DisplayName("Senha bloqueada deve ser única por usuário e não ser um hash bcrypt")
+    void deveGerarSenhaBloqueadaValida() {
+        // Given
+        String sufixo = Long.toString(System.nanoTime());
+        List<ResultadoProvisionamentoDTO> resultados = provisionamentoService.provisionar(List.of(
+                new UsuarioProvisionamentoDTO("bloq1" + sufixo + "@teste.com", "bloq1" + sufixo, "Bloqueado Um"),
+                new UsuarioProvisionamentoDTO("bloq2" + sufixo + "@teste.com", "bloq2" + sufixo, "Bloqueado Dois")),
+                Set.of());
+
+        // When
+        String primeira = usuarioService.buscarPorIdObrigatorio(resultados.get(0).usuarioId()).getSenha();
+        String segunda = usuarioService.buscarPorIdObrigatorio(resultados.get(1).usuarioId()).getSenha();
+
+        // Then
+        assertTrue(primeira.startsWith("!"));
+        assertEquals(33, primeira.length());
+        assertFalse(primeira.startsWith("$2"));
+        assertNotEquals(primeira, segunda);
+    }
+}
@@ -0,0 +1,101 @@
+package br.upf.ads175.critiquehub.service;
+
+import br.upf.ads175.critiquehub.entity.model.Tag;
+import br.upf.ads175.critiquehub.repository.TagRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@DisplayName("Testes de concorrência para TagService.buscarOuCriar")
+class TagServiceConcurrencyTest {
+
+    private static final int REQUISICOES = 16;
+
+    @Inject
+    TagService tagService;
+
+    @Inject
+    TagRepository tagRepository;
+
+    @Test
+    @DisplayName("Requisições concorrentes com o mesmo nome devem convergir para uma única tag")
+    void deveConvergirParaUmaUnicaTag() throws Exception {
+        // Given: várias requisições com grafias diferentes do mesmo nome, liberadas ao mesmo tempo
+        String[] grafias = {"Ficção Científica", "ficção científica", "  FICÇÃO CIENTÍFICA  "};
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUISICOES);
+
+        try {
+            List<Future<Long>> resultados = new ArrayList<>();
+            for (int i = 0; i < REQUISICOES; i++) {
+                String nome = grafias[i % grafias.length];
+                Callable<Long> requisicao = () -> {
+                    largada.await();
+                    return tagService.buscarOuCriar(nome).getId();
+                };
+                resultados.add(executor.submit(requisicao));
+            }
+
+            // When
+            largada.countDown();
+
+            // Then: nenhuma falha na constraint única e todas recebem o mesmo ID
+            Set<Long> ids = resultados.stream()
+                .map(TagServiceConcurrencyTest::aguardar)
+                .collect(Collectors.toSet());
+            assertEquals(1, ids.size(), "Todas as requisições devem receber a mesma tag");
+
+            long gravadas = QuarkusTransaction.requiringNew()
+                .call(() -> tagRepository.count("nome", "ficção científica"));
+            assertEquals(1, gravadas, "Deve existir uma única linha para o nome normalizado");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter a tag resolvida pelo cache nas chamadas seguintes")
+    void deveReaproveitarTagJaCriada() {
+        Tag primeira = tagService.buscarOuCriar("Suspense");
+        Tag segunda = tagService.buscarOuCriar("SUSPENSE");
+
+        assertEquals(primeira.getId(), segunda.getId());
+        assertEquals("suspense", segunda.getNome());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as regras de tamanho do nome apesar do INSERT nativo")
+    void deveValidarTamanhoDoNome() {
+        assertThrows(ConstraintViolationException.class, () -> tagService.buscarOuCriar("x"));
+        assertThrows(ConstraintViolationException.class, () -> tagService.buscarOuCriar("x".repeat(51)));
+
+        long gravadas = QuarkusTransaction.requiringNew()
+            .call(() -> tagRepository.count("LENGTH(nome) < 2 OR LENGTH(nome) > 50"));
+        assertEquals(0, gravadas);
+    }
+
+    private static Long aguardar(Future<Long> resultado) {
+        try {
+            return resultado.get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new AssertionError("Requisição concorrente falhou", e);
+        }
+    }
+}